@@ -0,0 +1,77 @@
+package seedu.address.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterTimeslotCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindFreeCommand;
+import seedu.address.logic.commands.FindTagCommand;
+import seedu.address.logic.commands.FindTimeslotCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing a typical input of each command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AddressBookParserBenchmark {
+
+    private static final Map<String, String> INPUTS = Map.ofEntries(
+            Map.entry(AddCommand.COMMAND_WORD, AddCommand.COMMAND_WORD + " n/John Doe p/98765432 "
+                    + "e/johnd@example.com a/311, Clementi Ave 2, #02-25 ts/2025-10-16 1500-1800 "
+                    + "r/weekly 2025-12-31 av/MON 0900-1200 av/WED 1400-1800 t/friends t/owesMoney"),
+            Map.entry(EditCommand.COMMAND_WORD, EditCommand.COMMAND_WORD + " 1 p/91234567 e/johndoe@example.com "
+                    + "ts/2025-10-12 1600-1800"),
+            Map.entry(DeleteCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD + " 1"),
+            Map.entry(ClearCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD),
+            Map.entry(FindCommand.COMMAND_WORD, FindCommand.COMMAND_WORD + " alice bob charlie"),
+            Map.entry(FindTagCommand.COMMAND_WORD, FindTagCommand.COMMAND_WORD + " friends owesMoney"),
+            Map.entry(FindTimeslotCommand.COMMAND_WORD, FindTimeslotCommand.COMMAND_WORD + " 2025-10-12 0900 1600"),
+            Map.entry(FilterTimeslotCommand.COMMAND_WORD, FilterTimeslotCommand.COMMAND_WORD
+                    + " sd/2025-10-20 ed/2025-11-20 st/0900 et/1300"),
+            Map.entry(FindFreeCommand.COMMAND_WORD, FindFreeCommand.COMMAND_WORD + " 1 3 d/90"),
+            Map.entry(ListCommand.COMMAND_WORD, ListCommand.COMMAND_WORD),
+            Map.entry(ExitCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD),
+            Map.entry(HelpCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD),
+            Map.entry(StatsCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD));
+
+    @Param({"add", "edit", "delete", "clear", "find", "findtag", "findtimeslot", "filtertimeslot", "findfree",
+        "list", "exit", "help", "stats"})
+    private String commandWord;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String input;
+
+    @Setup
+    public void setUp() {
+        input = INPUTS.get(commandWord);
+        if (input == null) {
+            throw new IllegalStateException("No input for command: " + commandWord);
+        }
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(input);
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Benchmarks testing every person against each {@code Predicate<Person>} of this package, which is what filtering
+ * the person list without an index does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonPredicateBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private NameContainsKeywordsPredicate namePredicate;
+    private TagContainsKeywordsPredicate tagPredicate;
+    private TimeslotRangePredicate rangePredicate;
+    private TimeslotStartTimeContainsKeywordsPredicate startTimePredicate;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticDataUtil.getPersons(size, SEED);
+        namePredicate = new NameContainsKeywordsPredicate(List.of("alex", "li"));
+        tagPredicate = new TagContainsKeywordsPredicate(List.of("family", "neighbours"));
+        LocalDate startDate = SyntheticDataUtil.FIRST_DATE.plusDays(SyntheticDataUtil.DAYS / 2);
+        rangePredicate = new TimeslotRangePredicate(Optional.of(startDate), Optional.of(startDate.plusDays(14)),
+                Optional.of(LocalTime.of(9, 0)), Optional.of(LocalTime.of(12, 0)));
+        startTimePredicate = new TimeslotStartTimeContainsKeywordsPredicate(
+                List.of(startDate.toString(), startDate.plusDays(1).toString()));
+    }
+
+    @Benchmark
+    public int nameContainsKeywords() {
+        return countMatches(namePredicate);
+    }
+
+    @Benchmark
+    public int tagContainsKeywords() {
+        return countMatches(tagPredicate);
+    }
+
+    @Benchmark
+    public int timeslotRange() {
+        return countMatches(rangePredicate);
+    }
+
+    @Benchmark
+    public int timeslotStartTimeContainsKeywords() {
+        return countMatches(startTimePredicate);
+    }
+
+    private int countMatches(Predicate<Person> predicate) {
+        int count = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
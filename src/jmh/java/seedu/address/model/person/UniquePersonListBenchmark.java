@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Benchmarks adding, looking up and replacing the persons of a {@code UniquePersonList}, which also maintains its
+ * indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniquePersonListBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList list;
+    private Person present;
+    private Person absent;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticDataUtil.getPersons(size + 1, SEED);
+        absent = persons.remove(size);
+        present = persons.get(size / 2);
+        list = new UniquePersonList();
+        list.setPersons(persons);
+    }
+
+    /**
+     * Adds a person and removes it again, so that the list keeps its size between invocations.
+     */
+    @Benchmark
+    public UniquePersonList addThenRemove() {
+        list.add(absent);
+        list.remove(absent);
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return list.contains(present);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains(absent);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public UniquePersonList setPersons() {
+        list.setPersons(persons);
+        return list;
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model.util;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Availability;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Recurrence;
+import seedu.address.model.person.TimeSlot;
+
+/**
+ * Generates address books of any size for benchmarks, built from the fields of the sample persons.
+ *
+ * Every person has a distinct name, so any number of them can be added to one address book. The same
+ * {@code seed} always generates the same persons, so runs of a benchmark can be compared.
+ */
+public class SyntheticDataUtil extends SampleDataUtil {
+
+    /** The date of the earliest time slot that is generated. */
+    public static final LocalDate FIRST_DATE = LocalDate.of(2025, 1, 6);
+    /** The number of days that generated time slots are spread over. */
+    public static final int DAYS = 365;
+
+    private static final String[] TAGS = {"friends", "colleagues", "neighbours", "family", "classmates", "owesMoney"};
+    private static final String[] DAYS_OF_WEEK = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+
+    /**
+     * Returns {@code count} persons generated from {@code seed}.
+     * About one in ten of them has a weekly or biweekly time slot, and about half of them are free at some times.
+     */
+    public static List<Person> getPersons(int count, long seed) {
+        Person[] samples = getSamplePersons();
+        Random random = new Random(seed);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Person sample = samples[random.nextInt(samples.length)];
+            TimeSlot timeSlot = getTimeSlot(random);
+            persons.add(new Person(
+                    new Name(sample.getName().fullName + " " + i),
+                    new Phone(String.valueOf(80000000 + random.nextInt(20000000))),
+                    new Email("person" + i + "@example.com"),
+                    sample.getAddress(),
+                    timeSlot,
+                    getRecurrence(random, timeSlot.getDate()),
+                    getAvailability(random),
+                    getTagSet(TAGS[random.nextInt(TAGS.length)], TAGS[random.nextInt(TAGS.length)])));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code count} persons generated from {@code seed}.
+     */
+    public static AddressBook getAddressBook(int count, long seed) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getPersons(count, seed));
+        return addressBook;
+    }
+
+    /**
+     * Returns a time slot of 30 minutes to 3 hours, starting on the hour or half hour between 0800 and 2000, on one
+     * of the {@link #DAYS} days from {@link #FIRST_DATE}.
+     */
+    public static TimeSlot getTimeSlot(Random random) {
+        LocalTime start = LocalTime.of(8 + random.nextInt(12), random.nextInt(2) * 30);
+        LocalTime end = start.plusMinutes(30 + random.nextInt(6) * 30);
+        return new TimeSlot(FIRST_DATE.plusDays(random.nextInt(DAYS)), start, end);
+    }
+
+    private static Recurrence getRecurrence(Random random, LocalDate first) {
+        if (random.nextInt(10) != 0) {
+            return Recurrence.NONE;
+        }
+        return new Recurrence(1 + random.nextInt(2), first.plusWeeks(4 + random.nextInt(20)));
+    }
+
+    private static Availability getAvailability(Random random) {
+        List<String> ranges = new ArrayList<>();
+        if (random.nextBoolean()) {
+            for (int i = random.nextInt(4); i >= 0; i--) {
+                int startHour = 8 + random.nextInt(10);
+                ranges.add(String.format("%s %02d00-%02d00", DAYS_OF_WEEK[random.nextInt(DAYS_OF_WEEK.length)],
+                        startHour, startHour + 1 + random.nextInt(4)));
+            }
+        }
+        return Availability.fromRanges(ranges);
+    }
+}
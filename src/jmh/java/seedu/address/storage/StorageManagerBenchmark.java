@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Recurrence;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Benchmarks adding time slots to a {@code StorageManager} that already holds the slots of a whole address book,
+ * which checks each new slot for conflicts first.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StorageManagerBenchmark {
+
+    private static final long SEED = 42;
+    /** Free slots are added from this date on, after every generated slot. */
+    private static final LocalDate FREE_DATE = SyntheticDataUtil.FIRST_DATE.plusYears(10);
+    private static final LocalTime FREE_START = LocalTime.of(9, 0);
+    private static final LocalTime FREE_END = LocalTime.of(10, 0);
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private Path folder;
+    private AddressBook addressBook;
+    private StorageManager storageManager;
+    private TimeSlot conflicting;
+    private TimeSlot recurringFree;
+    private Recurrence weekly;
+    private int freeSlotCount;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("storage-benchmark");
+        storageManager = new StorageManager(new JsonAddressBookStorage(folder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(folder.resolve("preferences.json")));
+        addressBook = SyntheticDataUtil.getAddressBook(size, SEED);
+        conflicting = addressBook.getPersonList().get(size / 2).getTimeSlot();
+        recurringFree = new TimeSlot(FREE_DATE.minusYears(1), FREE_START, FREE_END);
+        weekly = new Recurrence(1, FREE_DATE.minusDays(1));
+    }
+
+    /**
+     * Drops the slots added by the previous iteration, so that every iteration starts from the address book.
+     */
+    @Setup(Level.Iteration)
+    public void loadSlots() {
+        storageManager.loadExistingSlots(addressBook);
+        freeSlotCount = 0;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Adds a slot on a new date each time, which never conflicts.
+     */
+    @Benchmark
+    public boolean addSlotFree() {
+        return storageManager.addSlot(new TimeSlot(FREE_DATE.plusDays(freeSlotCount++), FREE_START, FREE_END));
+    }
+
+    @Benchmark
+    public boolean addSlotConflicting() {
+        return storageManager.addSlot(conflicting);
+    }
+
+    /**
+     * Checks a weekly slot against every slot of the year before the free slots, without adding it.
+     */
+    @Benchmark
+    public boolean findConflictRecurring() {
+        return storageManager.findConflict(recurringFree, weekly).isPresent();
+    }
+}
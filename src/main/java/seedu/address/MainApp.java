@@ -7,11 +7,13 @@ import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -22,12 +24,13 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookConverter;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -57,7 +60,9 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        initAddressBookFormat(userPrefs);
+        AddressBookStorage addressBookStorage = new WriteBehindAddressBookStorage(StorageManager
+                .createAddressBookStorage(userPrefs.getAddressBookFormat(), userPrefs.getAddressBookFilePath()));
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,6 +72,22 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Converts the data file to the format selected in {@code userPrefs}, if it was saved in another format.
+     */
+    private void initAddressBookFormat(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        AddressBookFormat format = userPrefs.getAddressBookFormat();
+        try {
+            if (AddressBookConverter.convertToFormat(filePath, format)) {
+                logger.info("Converted data file " + filePath + " to " + format + " format.");
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + filePath + " could not be converted to " + format + " format: "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -85,14 +106,33 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            initialData = readBackupAddressBook(storage).orElseGet(() -> {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                        + " Will be starting with an empty AddressBook.");
+                return new AddressBook();
+            });
         }
 
         return new ModelManager(initialData, userPrefs, storage);
     }
 
+    /**
+     * Returns the previous generation of {@code storage}'s address book, kept as a backup when it was last saved,
+     * or {@code Optional.empty()} if there is no backup or it could not be loaded either.
+     */
+    private Optional<ReadOnlyAddressBook> readBackupAddressBook(Storage storage) {
+        Path backupFilePath = FileUtil.getBackupFilePath(storage.getAddressBookFilePath());
+        try {
+            Optional<ReadOnlyAddressBook> backup = storage.readAddressBook(backupFilePath);
+            backup.ifPresent(unused -> logger.warning("Data file at " + storage.getAddressBookFilePath()
+                    + " could not be loaded. Will be starting with the backup at " + backupFilePath + "."));
+            return backup;
+        } catch (DataLoadingException e) {
+            logger.warning("Backup data file at " + backupFilePath + " could not be loaded either.");
+            return Optional.empty();
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -182,5 +222,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
     }
 }
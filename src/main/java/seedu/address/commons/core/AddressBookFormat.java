@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The file formats the address book can be stored in.
+ */
+public enum AddressBookFormat {
+    /** A single json file. */
+    JSON,
+    /** A json snapshot with an append-only journal of the changes made since. */
+    JOURNAL,
+    /** A compact binary file that is faster to load than json. */
+    BINARY
+}
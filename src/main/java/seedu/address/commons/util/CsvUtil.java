@@ -0,0 +1,98 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Helper functions for handling comma-separated values, one record on each line.
+ * Fields may be enclosed in double quotes, so that they can contain commas, and a double quote inside such a field
+ * is written as two double quotes. Fields cannot contain line breaks.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "A quoted field is followed by text other than a comma";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Returns the fields of {@code line}, without the quotes around quoted fields. Unquoted fields are not trimmed.
+     *
+     * @throws IllegalValueException if a quoted field is not closed, or is followed by anything but a comma.
+     */
+    public static List<String> splitLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i = readQuotedField(line, i + 1, field);
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalValueException(MESSAGE_TEXT_AFTER_QUOTE);
+                }
+            } else {
+                int end = line.indexOf(SEPARATOR, i);
+                end = end == -1 ? line.length() : end;
+                field.append(line, i, end);
+                i = end;
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++; // skip the separator
+        }
+    }
+
+    /**
+     * Returns {@code fields} joined into a line that {@link #splitLine(String)} splits back into them. Fields that
+     * contain a comma or a double quote, or start or end with whitespace, are quoted.
+     */
+    public static String formatLine(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            line.append(formatField(fields.get(i)));
+        }
+        return line.toString();
+    }
+
+    private static String formatField(String field) {
+        boolean needsQuotes = field.indexOf(SEPARATOR) != -1 || field.indexOf(QUOTE) != -1
+                || !field.equals(field.strip());
+        if (!needsQuotes) {
+            return field;
+        }
+        return QUOTE + field.replace(String.valueOf(QUOTE), String.valueOf(QUOTE) + QUOTE) + QUOTE;
+    }
+
+    /**
+     * Appends the quoted field starting after the opening quote at {@code start} to {@code field}, and returns the
+     * index just after its closing quote.
+     */
+    private static int readQuotedField(String line, int start, StringBuilder field) throws IllegalValueException {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i++);
+            if (c != QUOTE) {
+                field.append(c);
+            } else if (i < line.length() && line.charAt(i) == QUOTE) {
+                field.append(QUOTE);
+                i++;
+            } else {
+                return i;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Helper functions for writing iCalendar (RFC 5545) content.
+ */
+public class IcsUtil {
+
+    /** Ends every content line, as iCalendar requires CRLF line breaks. */
+    public static final String LINE_BREAK = "\r\n";
+
+    /** The most octets that a content line may have before it is folded, excluding the line break. */
+    static final int MAX_LINE_OCTETS = 75;
+
+    /**
+     * Returns {@code text} with the characters that have a special meaning in iCalendar text values escaped.
+     */
+    public static String escapeText(String text) {
+        requireNonNull(text);
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    /**
+     * Returns the content line {@code line} folded so that no line has more than {@value #MAX_LINE_OCTETS} octets
+     * in UTF-8, with every line, including the last, ending in {@link #LINE_BREAK}. A folded line continues on the
+     * next line after a single space. Characters are never split across lines.
+     */
+    public static String foldLine(String line) {
+        requireNonNull(line);
+        StringBuilder folded = new StringBuilder(line.length() + LINE_BREAK.length());
+        int octets = 0;
+        for (int i = 0; i < line.length(); i += Character.charCount(line.codePointAt(i))) {
+            int codePoint = line.codePointAt(i);
+            int codePointOctets = utf8Length(codePoint);
+            if (octets + codePointOctets > MAX_LINE_OCTETS) {
+                folded.append(LINE_BREAK).append(' ');
+                octets = 1;
+            }
+            folded.appendCodePoint(codePoint);
+            octets += codePointOctets;
+        }
+        return folded.append(LINE_BREAK).toString();
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+}
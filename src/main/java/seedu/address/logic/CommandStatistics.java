@@ -0,0 +1,210 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records how long each phase of a command takes, and how many bytes it allocates, grouped by command word.
+ * Only the most recent {@link #SAMPLE_CAPACITY} samples of each phase of each command word are kept, so the
+ * percentiles reported describe how commands perform now rather than since the app started.
+ *
+ * Allocated bytes are read from the {@code ThreadMXBean} of the current thread. They are reported as unknown on JVMs
+ * that cannot measure them.
+ */
+public class CommandStatistics {
+
+    /** The phases that a command goes through. */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE
+    }
+
+    /** The number of most recent samples kept for each phase of each command word. */
+    public static final int SAMPLE_CAPACITY = 1024;
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been recorded yet.";
+
+    /** Marks that the allocated bytes of a sample are unknown. */
+    static final long UNKNOWN_BYTES = -1;
+
+    private final Map<String, Map<Phase, Samples>> samplesByCommandWord = new TreeMap<>();
+    private final com.sun.management.ThreadMXBean threadBean;
+    private long commandCount;
+    private long avoidedSaveCount;
+
+    /**
+     * Constructs a {@code CommandStatistics} that measures allocated bytes if the JVM supports it.
+     */
+    public CommandStatistics() {
+        this.threadBean = getAllocationMeasuringThreadBean();
+    }
+
+    private static com.sun.management.ThreadMXBean getAllocationMeasuringThreadBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        bean.setThreadAllocatedMemoryEnabled(true);
+        return bean.isThreadAllocatedMemoryEnabled() ? bean : null;
+    }
+
+    /**
+     * Returns a stopwatch that starts timing the first phase of a command now.
+     */
+    public Stopwatch start() {
+        return new Stopwatch();
+    }
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} took the time, and allocated the bytes, since
+     * {@code stopwatch} was started or last recorded, and restarts it for the next phase.
+     */
+    public void record(String commandWord, Phase phase, Stopwatch stopwatch) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        long nanos = System.nanoTime() - stopwatch.startNanos;
+        long allocatedBytes = allocatedBytes();
+        long bytes = allocatedBytes == UNKNOWN_BYTES || stopwatch.startBytes == UNKNOWN_BYTES
+                ? UNKNOWN_BYTES
+                : allocatedBytes - stopwatch.startBytes;
+        record(commandWord, phase, nanos, bytes);
+        stopwatch.restart();
+    }
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} took {@code nanos} and allocated
+     * {@code bytes}, or {@link #UNKNOWN_BYTES}.
+     */
+    void record(String commandWord, Phase phase, long nanos, long bytes) {
+        if (phase == Phase.PARSE) {
+            commandCount++;
+        }
+        samplesByCommandWord.computeIfAbsent(commandWord, word -> new EnumMap<>(Phase.class))
+                .computeIfAbsent(phase, p -> new Samples())
+                .add(nanos, bytes);
+    }
+
+    /**
+     * Records that saving was skipped after a command because the address book was unchanged.
+     */
+    public void recordAvoidedSave() {
+        avoidedSaveCount++;
+    }
+
+    /**
+     * Returns the number of commands that were parsed successfully.
+     */
+    public long getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book was unchanged.
+     */
+    public long getAvoidedSaveCount() {
+        return avoidedSaveCount;
+    }
+
+    /**
+     * Returns a summary of the recorded phases, with a line of totals followed by one line for each phase of each
+     * command word.
+     */
+    public String getSummary() {
+        if (samplesByCommandWord.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT, "%d commands, %d saves avoided",
+                commandCount, avoidedSaveCount));
+        samplesByCommandWord.forEach((commandWord, samplesByPhase) -> samplesByPhase.forEach((phase, samples) ->
+                summary.append('\n').append(formatSamples(commandWord, phase, samples))));
+        return summary.toString();
+    }
+
+    private static String formatSamples(String commandWord, Phase phase, Samples samples) {
+        return String.format(Locale.ROOT, "%s %s: n=%d time p50=%s p99=%s alloc p50=%s p99=%s",
+                commandWord, phase.name().toLowerCase(Locale.ROOT), samples.total,
+                formatNanos(samples.nanosPercentile(50)), formatNanos(samples.nanosPercentile(99)),
+                formatBytes(samples.bytesPercentile(50)), formatBytes(samples.bytesPercentile(99)));
+    }
+
+    private long allocatedBytes() {
+        return threadBean == null ? UNKNOWN_BYTES : threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static String formatNanos(long nanos) {
+        return String.format(Locale.ROOT, "%.3fms", nanos / 1_000_000.0);
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes == UNKNOWN_BYTES) {
+            return "?";
+        }
+        if (bytes < 1024) {
+            return bytes + "B";
+        }
+        return bytes < 1024 * 1024
+                ? String.format(Locale.ROOT, "%.1fKB", bytes / 1024.0)
+                : String.format(Locale.ROOT, "%.1fMB", bytes / (1024.0 * 1024));
+    }
+
+    /**
+     * Marks the time, and the bytes allocated by the current thread, at which a phase started.
+     */
+    public class Stopwatch {
+        private long startNanos;
+        private long startBytes;
+
+        private Stopwatch() {
+            restart();
+        }
+
+        private void restart() {
+            startBytes = allocatedBytes();
+            startNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * The most recent samples of one phase, kept in ring buffers.
+     */
+    private static class Samples {
+        private final long[] nanos = new long[SAMPLE_CAPACITY];
+        private final long[] bytes = new long[SAMPLE_CAPACITY];
+        private long total;
+
+        void add(long sampleNanos, long sampleBytes) {
+            int i = (int) (total % SAMPLE_CAPACITY);
+            nanos[i] = sampleNanos;
+            bytes[i] = sampleBytes;
+            total++;
+        }
+
+        long nanosPercentile(int percent) {
+            return percentile(nanos, percent);
+        }
+
+        long bytesPercentile(int percent) {
+            // the bytes of every sample are unknown if any are, as they all come from the same JVM
+            return percentile(bytes, percent);
+        }
+
+        /**
+         * Returns the smallest kept sample that is not less than {@code percent} percent of the kept samples.
+         */
+        private long percentile(long[] values, int percent) {
+            int size = (int) Math.min(total, SAMPLE_CAPACITY);
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percent / 100.0 * size);
+            return sorted[Math.max(rank, 1) - 1];
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,21 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Previews the effect of a partly typed command on the filtered person list, without executing it.
+     * Only {@code find} commands are previewed, by showing the persons that the command typed so far would find. The
+     * list shown before the preview is shown again once the text stops being a {@code find} command, or when a
+     * command is executed.
+     * @param commandText The command as typed by the user so far.
+     */
+    void previewCommand(String commandText);
+
+    /**
+     * Sets the handler of feedback that only becomes available after a command has returned, such as a save that
+     * failed in the background or an export that has finished. The handler may be called on any thread.
+     */
+    void setBackgroundFeedbackHandler(Consumer<String> handler);
+
     /**
      * Returns the AddressBook.
      *
@@ -1,17 +1,24 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandStatistics.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -27,11 +34,27 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Marks that the address book has not been saved by this {@code LogicManager} yet. */
+    private static final long UNSAVED_VERSION = -1;
+
+    /** The number of commands after which the command statistics are logged again. */
+    private static final int STATISTICS_LOG_INTERVAL = 100;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandStatistics statistics = new CommandStatistics();
+
+    /**
+     * Version of the address book that was last saved successfully. Reset from the storage's writer thread when a
+     * save fails in the background, so that the next command saves again.
+     */
+    private volatile long lastSavedVersion = UNSAVED_VERSION;
+    private volatile Consumer<String> backgroundFeedbackHandler = feedback -> { };
+    /** Filter of the person list from before the preview that it shows instead, or null if no preview is shown. */
+    private Predicate<Person> predicateBeforePreview;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -39,28 +62,133 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        addressBookParser = new AddressBookParser(statistics);
+        storage.setWriteFailureHandler(this::handleWriteFailure);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        // the command applies to the list as it was before the preview, even if it cannot be parsed
+        endPreview();
 
-        CommandResult commandResult;
+        CommandStatistics.Stopwatch stopwatch = statistics.start();
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        statistics.record(commandWord, Phase.PARSE, stopwatch);
+
+        try {
+            CommandResult commandResult = executeAndSave(command, commandWord, stopwatch);
+            commandResult.getBackgroundFeedback().ifPresent(feedback ->
+                    feedback.thenAccept(message -> backgroundFeedbackHandler.accept(message)));
+            return commandResult;
+        } finally {
+            if (statistics.getCommandCount() % STATISTICS_LOG_INTERVAL == 0) {
+                logger.info("Command statistics:\n" + statistics.getSummary());
+            }
+        }
+    }
+
+    /**
+     * Executes {@code command} and saves the address book if the command changed it, recording how long each phase
+     * took on {@code stopwatch}.
+     */
+    private CommandResult executeAndSave(Command command, String commandWord, CommandStatistics.Stopwatch stopwatch)
+            throws CommandException {
+        CommandResult commandResult;
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            statistics.record(commandWord, Phase.EXECUTE, stopwatch);
+        }
+
+        long version = model.getAddressBookVersion();
+        if (version == lastSavedVersion) {
+            statistics.recordAvoidedSave();
+            logger.fine("Address book unchanged, skipped saving ("
+                    + statistics.getAvoidedSaveCount() + " saves avoided so far)");
+            return commandResult;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            lastSavedVersion = UNSAVED_VERSION;
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
+        } finally {
+            statistics.record(commandWord, Phase.SAVE, stopwatch);
         }
+        lastSavedVersion = version;
 
         return commandResult;
     }
 
+    /**
+     * Reports a save that failed after {@code execute} returned, and makes the next command save again.
+     */
+    private void handleWriteFailure(IOException failure) {
+        lastSavedVersion = UNSAVED_VERSION;
+        backgroundFeedbackHandler.accept(getSaveFailureMessage(failure));
+    }
+
+    private static String getSaveFailureMessage(IOException failure) {
+        return failure instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, failure.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, failure.getMessage());
+    }
+
+    @Override
+    public void setBackgroundFeedbackHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        backgroundFeedbackHandler = handler;
+    }
+
+    @Override
+    public void previewCommand(String commandText) {
+        String[] words = commandText.trim().split("\\s+", 2);
+        if (words.length < 2 || !words[0].equals(FindCommand.COMMAND_WORD)) {
+            endPreview();
+            return;
+        }
+
+        FindCommand findCommand;
+        try {
+            findCommand = new FindCommandParser().parse(words[1]);
+        } catch (ParseException e) {
+            endPreview();
+            return;
+        }
+        if (predicateBeforePreview == null) {
+            predicateBeforePreview = model.getFilteredPersonPredicate();
+        }
+        // the find command only filters the list, so executing it shows exactly what it would show once entered
+        findCommand.execute(model);
+    }
+
+    /**
+     * Shows the list as it was before the preview again, if a preview is shown.
+     */
+    private void endPreview() {
+        if (predicateBeforePreview != null) {
+            model.updateFilteredPersonList(predicateBeforePreview);
+            predicateBeforePreview = null;
+        }
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book was unchanged.
+     */
+    public long getAvoidedSaveCount() {
+        return statistics.getAvoidedSaveCount();
+    }
+
+    /**
+     * Returns the statistics of the commands executed so far.
+     */
+    public CommandStatistics getCommandStatistics() {
+        return statistics;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
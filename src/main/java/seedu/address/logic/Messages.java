@@ -19,6 +19,8 @@ public class Messages {
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_TIMESLOT_CONFLICT = "This time slot conflicts with another existing time slot!";
+    public static final String MESSAGE_TIMESLOT_CONFLICT_WITH =
+            "This time slot conflicts with an existing time slot: %1$s";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -2,17 +2,22 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AVAILABILITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT;
 
+import java.util.Optional;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeSlot;
 
 /**
  * Adds a person to the address book.
@@ -27,7 +32,9 @@ public class AddCommand extends Command {
             + PREFIX_PHONE + "PHONE "
             + PREFIX_EMAIL + "EMAIL "
             + PREFIX_ADDRESS + "ADDRESS "
-            + PREFIX_TIMESLOT + "TIMESLOT"
+            + PREFIX_TIMESLOT + "TIMESLOT "
+            + "[" + PREFIX_RECURRENCE + "RECURRENCE] "
+            + "[" + PREFIX_AVAILABILITY + "AVAILABILITY]... "
             + "[" + PREFIX_TAG + "TAG]...\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_NAME + "John Doe "
@@ -60,9 +67,11 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-        if (!(model.getStorage().addSlot(toAdd.getTimeSlot()))) {
-            throw new CommandException(Messages.MESSAGE_TIMESLOT_CONFLICT);
+        Optional<TimeSlot> conflict = model.getStorage().findConflict(toAdd.getTimeSlot(), toAdd.getRecurrence());
+        if (conflict.isPresent()) {
+            throw new CommandException(String.format(Messages.MESSAGE_TIMESLOT_CONFLICT_WITH, conflict.get()));
         }
+        model.getStorage().addSlot(toAdd.getTimeSlot(), toAdd.getRecurrence());
 
         model.addPerson(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
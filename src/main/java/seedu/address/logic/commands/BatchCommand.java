@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Executes the commands in a file one after another as a single transaction. Either every command takes effect, or,
+ * if any of them fails, none of them do. As the commands are executed by one command, the address book is saved once
+ * at the end rather than after every command, and the displayed list is filtered once at the end. If the batch
+ * fails, the displayed list is filtered as it was before the batch.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Executes the add, edit, delete and clear commands in a file, one on each line, all together. "
+            + "If any command fails, the address book is left as it was before the batch.\n"
+            + "Blank lines and lines starting with # are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/new_students.txt";
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d commands from %2$s";
+    public static final String MESSAGE_COMMAND_FAILED =
+            "Line %1$d failed, so no commands from the batch were applied: %2$s";
+
+    private final Path filePath;
+    private final Map<Integer, Command> commandsByLine;
+
+    /**
+     * Creates a BatchCommand that executes {@code commandsByLine}, in iteration order, which were read from the lines
+     * of {@code filePath} that they are keyed by.
+     */
+    public BatchCommand(Path filePath, Map<Integer, Command> commandsByLine) {
+        requireNonNull(filePath);
+        requireNonNull(commandsByLine);
+        this.filePath = filePath;
+        this.commandsByLine = new LinkedHashMap<>(commandsByLine);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        AddressBook snapshot = new AddressBook(model.getAddressBook());
+        Predicate<Person> predicateBeforeBatch = model.getFilteredPersonPredicate();
+
+        // the commands that add persons show all persons again; filter the list once, after the batch
+        model.suspendFilterUpdates();
+        try {
+            for (Map.Entry<Integer, Command> entry : commandsByLine.entrySet()) {
+                try {
+                    entry.getValue().execute(model);
+                } catch (CommandException | RuntimeException e) {
+                    model.updateFilteredPersonList(predicateBeforeBatch);
+                    rollBack(model, snapshot);
+                    throw new CommandException(
+                            String.format(MESSAGE_COMMAND_FAILED, entry.getKey(), e.getMessage()), e);
+                }
+            }
+        } finally {
+            model.resumeFilterUpdates();
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandsByLine.size(), filePath));
+    }
+
+    /**
+     * Restores the address book of {@code model} to {@code snapshot}, and the time slots that are booked to those of
+     * its persons.
+     */
+    private static void rollBack(Model model, AddressBook snapshot) {
+        model.setAddressBook(snapshot);
+        if (model.getStorage() != null) {
+            model.getStorage().loadExistingSlots(snapshot);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return filePath.equals(otherBatchCommand.filePath)
+                && commandsByLine.equals(otherBatchCommand.commandsByLine);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("commandsByLine", commandsByLine)
+                .toString();
+    }
+}
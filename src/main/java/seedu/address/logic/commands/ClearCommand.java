@@ -18,6 +18,7 @@ public class ClearCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.setAddressBook(new AddressBook());
+        model.getStorage().loadExistingSlots(model.getAddressBook());
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
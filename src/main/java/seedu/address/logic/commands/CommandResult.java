@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -19,6 +21,9 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Feedback that completes once work the command left running in the background is done, if there is any. */
+    private final CompletionStage<String> backgroundFeedback;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -26,6 +31,18 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.backgroundFeedback = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, and {@code backgroundFeedback}
+     * to show once the work the command left running in the background is done.
+     */
+    public CommandResult(String feedbackToUser, CompletionStage<String> backgroundFeedback) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.backgroundFeedback = requireNonNull(backgroundFeedback);
     }
 
     /**
@@ -48,6 +65,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<CompletionStage<String>> getBackgroundFeedback() {
+        return Optional.ofNullable(backgroundFeedback);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -59,6 +80,7 @@ public class CommandResult {
             return false;
         }
 
+        // the background feedback is not compared, as it may not have completed yet
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
@@ -2,9 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AVAILABILITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
@@ -23,12 +25,15 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.Availability;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.person.TimeSlot;
 import seedu.address.model.tag.Tag;
+import seedu.address.storage.TimeSlotStorage;
 
 /**
  * Edits the details of an existing person in the address book.
@@ -46,6 +51,8 @@ public class EditCommand extends Command {
             + "[" + PREFIX_EMAIL + "EMAIL] "
             + "[" + PREFIX_ADDRESS + "ADDRESS] "
             + "[" + PREFIX_TIMESLOT + "TIMESLOT] "
+            + "[" + PREFIX_RECURRENCE + "RECURRENCE] "
+            + "[" + PREFIX_AVAILABILITY + "AVAILABILITY]... "
             + "[" + PREFIX_TAG + "TAG]...\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_PHONE + "91234567 "
@@ -83,15 +90,42 @@ public class EditCommand extends Command {
         Person personToEdit = lastShownList.get(index.getZeroBased());
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
+        if (editedPerson.getRecurrence().isRecurring()
+                && !editedPerson.getRecurrence().isValidFrom(editedPerson.getTimeSlot().getDate())) {
+            throw new CommandException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+
         if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
+        boolean isSlotChanged = !editedPerson.getTimeSlot().equals(personToEdit.getTimeSlot())
+                || !editedPerson.getRecurrence().equals(personToEdit.getRecurrence());
+        if (isSlotChanged) {
+            moveSlot(model.getStorage(), personToEdit, editedPerson);
+        }
+
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
 
+    /**
+     * Books the time slot of {@code editedPerson}, with its recurrence, in place of that of {@code personToEdit}.
+     * The old slot is freed first, so that the new slot may overlap it, and is booked again if the new slot
+     * conflicts with the slot of another person.
+     */
+    private static void moveSlot(TimeSlotStorage storage, Person personToEdit, Person editedPerson)
+            throws CommandException {
+        storage.removeSlot(personToEdit.getTimeSlot(), personToEdit.getRecurrence());
+        Optional<TimeSlot> conflict = storage.findConflict(editedPerson.getTimeSlot(), editedPerson.getRecurrence());
+        if (conflict.isPresent()) {
+            storage.indexSlot(personToEdit.getTimeSlot(), personToEdit.getRecurrence());
+            throw new CommandException(String.format(Messages.MESSAGE_TIMESLOT_CONFLICT_WITH, conflict.get()));
+        }
+        storage.indexSlot(editedPerson.getTimeSlot(), editedPerson.getRecurrence());
+    }
+
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
      * edited with {@code editPersonDescriptor}.
@@ -104,9 +138,13 @@ public class EditCommand extends Command {
         Email updatedEmail = editPersonDescriptor.getEmail().orElse(personToEdit.getEmail());
         Address updatedAddress = editPersonDescriptor.getAddress().orElse(personToEdit.getAddress());
         TimeSlot updatedTimeSlot = editPersonDescriptor.getTimeSlot().orElse(personToEdit.getTimeSlot());
+        Recurrence updatedRecurrence = editPersonDescriptor.getRecurrence().orElse(personToEdit.getRecurrence());
+        Availability updatedAvailability =
+                editPersonDescriptor.getAvailability().orElse(personToEdit.getAvailability());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
 
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTimeSlot, updatedTags);
+        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTimeSlot,
+                updatedRecurrence, updatedAvailability, updatedTags);
     }
 
     @Override
@@ -143,6 +181,8 @@ public class EditCommand extends Command {
         private Email email;
         private Address address;
         private TimeSlot timeSlot;
+        private Recurrence recurrence;
+        private Availability availability;
         private Set<Tag> tags;
 
         public EditPersonDescriptor() {}
@@ -157,6 +197,8 @@ public class EditCommand extends Command {
             setEmail(toCopy.email);
             setAddress(toCopy.address);
             setTimeSlot(toCopy.timeSlot);
+            setRecurrence(toCopy.recurrence);
+            setAvailability(toCopy.availability);
             setTags(toCopy.tags);
         }
 
@@ -164,7 +206,7 @@ public class EditCommand extends Command {
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(name, phone, email, address, timeSlot, tags);
+            return CollectionUtil.isAnyNonNull(name, phone, email, address, timeSlot, recurrence, availability, tags);
         }
 
         public void setName(Name name) {
@@ -207,6 +249,22 @@ public class EditCommand extends Command {
             return Optional.ofNullable(timeSlot);
         }
 
+        public void setRecurrence(Recurrence recurrence) {
+            this.recurrence = recurrence;
+        }
+
+        public Optional<Recurrence> getRecurrence() {
+            return Optional.ofNullable(recurrence);
+        }
+
+        public void setAvailability(Availability availability) {
+            this.availability = availability;
+        }
+
+        public Optional<Availability> getAvailability() {
+            return Optional.ofNullable(availability);
+        }
+
         /**
          * Sets {@code tags} to this object's {@code tags}.
          * A defensive copy of {@code tags} is used internally.
@@ -241,6 +299,8 @@ public class EditCommand extends Command {
                     && Objects.equals(email, otherEditPersonDescriptor.email)
                     && Objects.equals(address, otherEditPersonDescriptor.address)
                     && Objects.equals(timeSlot, otherEditPersonDescriptor.timeSlot)
+                    && Objects.equals(recurrence, otherEditPersonDescriptor.recurrence)
+                    && Objects.equals(availability, otherEditPersonDescriptor.availability)
                     && Objects.equals(tags, otherEditPersonDescriptor.tags);
         }
 
@@ -0,0 +1,260 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.IcsUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CsvPersonParser;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Recurrence;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.person.TimeslotRangePredicate;
+
+/**
+ * Exports the persons in the displayed list, optionally only those in a date and time range, to a CSV or iCalendar
+ * file.
+ *
+ * The persons to export are taken from the list when the command is executed, but the file is written in the
+ * background, one person at a time through a buffered writer, so that a large export neither holds up the user
+ * interface nor builds the whole file in memory. Whether the file could be written is only known once it is, so it
+ * is reported as the background feedback of the result.
+ *
+ * A CSV file can be imported again with {@link ImportCommand}. In an iCalendar file each person is an event, which
+ * repeats by a rule if the person's time slot recurs.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the persons in the displayed list to a "
+            + "CSV (.csv) or iCalendar (.ics) file, chosen by the file extension. "
+            + "If a range is given, only the persons with a time slot in it are exported.\n"
+            + "Parameters: FILE_PATH [sd/START_DATE] [ed/END_DATE] [st/START_TIME] [et/END_TIME]\n"
+            + "Example: " + COMMAND_WORD + " data/lessons.ics sd/2025-01-01 ed/2025-12-31";
+
+    public static final String MESSAGE_SUCCESS = "Exporting %1$d persons to %2$s in the background...";
+    public static final String MESSAGE_EXPORTED = "Exported %1$d persons to %2$s";
+    public static final String MESSAGE_CANNOT_WRITE_FILE = "Could not export persons to %1$s: %2$s";
+    public static final String MESSAGE_IS_DIRECTORY = "is a folder";
+    public static final String MESSAGE_FOLDER_NOT_WRITABLE = "its folder cannot be written to";
+    public static final String MESSAGE_BUSY = "another export could not be started";
+
+    /** The formats that persons can be exported in. */
+    public enum Format {
+        CSV, ICS;
+
+        /**
+         * Returns the format of a file named {@code fileName}, by its extension, if it is known.
+         */
+        public static Optional<Format> ofFileName(String fileName) {
+            String lowerCaseName = fileName.toLowerCase(Locale.ROOT);
+            return Arrays.stream(values())
+                    .filter(format -> lowerCaseName.endsWith("." + format.name().toLowerCase(Locale.ROOT)))
+                    .findFirst();
+        }
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    /** Writes exports one after another on a thread that does not keep the app running. */
+    private static final ExecutorService BACKGROUND_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "export");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final DateTimeFormatter ICS_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final String ICS_UID_DOMAIN = "@addressbook";
+
+    private final Path filePath;
+    private final Format format;
+    private final Optional<TimeslotRangePredicate> range;
+    private final Executor executor;
+
+    /**
+     * Creates an ExportCommand to export the displayed persons in {@code range}, or all of them if it is empty, to
+     * {@code filePath} in {@code format}, in the background.
+     */
+    public ExportCommand(Path filePath, Format format, Optional<TimeslotRangePredicate> range) {
+        this(filePath, format, range, BACKGROUND_EXECUTOR);
+    }
+
+    /**
+     * Creates an ExportCommand like {@link #ExportCommand(Path, Format, Optional)} that writes the file on
+     * {@code executor}.
+     */
+    ExportCommand(Path filePath, Format format, Optional<TimeslotRangePredicate> range, Executor executor) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(range);
+        requireNonNull(executor);
+        this.filePath = filePath;
+        this.format = format;
+        this.range = range;
+        this.executor = executor;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        checkWritable();
+        // persons are immutable, so only the references need to be copied for the export to be safe to write
+        // while the list changes
+        Person[] persons = range.isPresent()
+                ? model.getFilteredPersonList().stream().filter(range.get()).toArray(Person[]::new)
+                : model.getFilteredPersonList().toArray(Person[]::new);
+
+        CompletableFuture<String> feedback = new CompletableFuture<>();
+        try {
+            executor.execute(() -> feedback.complete(export(persons)));
+        } catch (RejectedExecutionException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_WRITE_FILE, filePath, MESSAGE_BUSY), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, persons.length, filePath), feedback);
+    }
+
+    /**
+     * Checks, before anything is written, the problems with {@code filePath} that would make the export fail.
+     */
+    private void checkWritable() throws CommandException {
+        if (Files.isDirectory(filePath)) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_WRITE_FILE, filePath, MESSAGE_IS_DIRECTORY));
+        }
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_WRITE_FILE, filePath, e), e);
+        }
+        // the file is written to a temporary file next to it first, so its folder must be writable
+        Path folder = filePath.toAbsolutePath().getParent();
+        if (folder != null && !Files.isWritable(folder)) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_WRITE_FILE, filePath,
+                    MESSAGE_FOLDER_NOT_WRITABLE));
+        }
+    }
+
+    /**
+     * Writes {@code persons} to the file, and returns the feedback to show the user once it is done.
+     */
+    private String export(Person[] persons) {
+        try {
+            FileUtil.writeToFileAtomically(filePath, out -> {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                if (format == Format.CSV) {
+                    writeCsv(writer, persons);
+                } else {
+                    writeIcs(writer, persons);
+                }
+                writer.flush();
+            });
+            logger.info("Exported " + persons.length + " persons to " + filePath);
+            return String.format(MESSAGE_EXPORTED, persons.length, filePath);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Could not export persons to " + filePath + ": " + e);
+            return String.format(MESSAGE_CANNOT_WRITE_FILE, filePath, e);
+        }
+    }
+
+    private static void writeCsv(Writer writer, Person[] persons) throws IOException {
+        writer.write(CsvUtil.formatLine(CsvPersonParser.COLUMNS));
+        writer.write(System.lineSeparator());
+        for (Person person : persons) {
+            writer.write(CsvUtil.formatLine(CsvPersonParser.toFields(person)));
+            writer.write(System.lineSeparator());
+        }
+    }
+
+    private static void writeIcs(Writer writer, Person[] persons) throws IOException {
+        String timestamp = ICS_DATE_TIME.format(LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC)) + "Z";
+        writer.write(IcsUtil.foldLine("BEGIN:VCALENDAR"));
+        writer.write(IcsUtil.foldLine("VERSION:2.0"));
+        writer.write(IcsUtil.foldLine("PRODID:-//AddressBook//Export//EN"));
+        for (Person person : persons) {
+            writeEvent(writer, person, timestamp);
+        }
+        writer.write(IcsUtil.foldLine("END:VCALENDAR"));
+    }
+
+    private static void writeEvent(Writer writer, Person person, String timestamp) throws IOException {
+        TimeSlot slot = person.getTimeSlot();
+        writer.write(IcsUtil.foldLine("BEGIN:VEVENT"));
+        // the name identifies a person, so it identifies the event across exports
+        writer.write(IcsUtil.foldLine("UID:" + UUID.nameUUIDFromBytes(
+                person.getName().fullName.getBytes(StandardCharsets.UTF_8)) + ICS_UID_DOMAIN));
+        writer.write(IcsUtil.foldLine("DTSTAMP:" + timestamp));
+        writer.write(IcsUtil.foldLine("DTSTART:" + ICS_DATE_TIME.format(slot.getDate().atTime(slot.getStartTime()))));
+        writer.write(IcsUtil.foldLine("DTEND:" + ICS_DATE_TIME.format(slot.getDate().atTime(slot.getEndTime()))));
+        Recurrence recurrence = person.getRecurrence();
+        if (recurrence.isRecurring()) {
+            LocalDate until = recurrence.lastDate(slot.getDate());
+            writer.write(IcsUtil.foldLine("RRULE:FREQ=WEEKLY;INTERVAL=" + recurrence.getIntervalWeeks()
+                    + ";UNTIL=" + ICS_DATE_TIME.format(until.atTime(slot.getEndTime()))));
+        }
+        writer.write(IcsUtil.foldLine("SUMMARY:" + IcsUtil.escapeText(person.getName().fullName)));
+        writer.write(IcsUtil.foldLine("LOCATION:" + IcsUtil.escapeText(person.getAddress().value)));
+        writer.write(IcsUtil.foldLine("DESCRIPTION:" + IcsUtil.escapeText(
+                "Phone: " + person.getPhone().value + "\nEmail: " + person.getEmail().value)));
+        if (!person.getTags().isEmpty()) {
+            writer.write(IcsUtil.foldLine("CATEGORIES:" + person.getTags().stream()
+                    .map(tag -> IcsUtil.escapeText(tag.tagName))
+                    .sorted()
+                    .collect(Collectors.joining(","))));
+        }
+        writer.write(IcsUtil.foldLine("END:VEVENT"));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format
+                && range.equals(otherExportCommand.range);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .add("range", range)
+                .toString();
+    }
+}
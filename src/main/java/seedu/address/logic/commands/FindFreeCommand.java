@@ -0,0 +1,114 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Availability;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.timesheet.AvailabilityMask;
+import seedu.address.model.person.timesheet.WeekIndex;
+
+/**
+ * Finds the times of the week at which all the persons identified by their displayed indexes are free for at least
+ * a given duration.
+ */
+public class FindFreeCommand extends Command {
+
+    public static final String COMMAND_WORD = "findfree";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds the earliest times of the week at which all the persons identified by the index numbers used "
+            + "in the displayed person list are free for at least the given number of minutes.\n"
+            + "Parameters: INDEX [MORE_INDEXES]... (must be positive integers) "
+            + PREFIX_DURATION + "MINUTES\n"
+            + "Example: " + COMMAND_WORD + " 1 3 " + PREFIX_DURATION + "90";
+
+    public static final String MESSAGE_FREE_SLOTS_FOUND = "Common free times of at least %1$d minutes:\n%2$s";
+    public static final String MESSAGE_NO_FREE_SLOTS = "There is no common free time of at least %1$d minutes.";
+
+    /** The most free times that are listed, starting from the earliest in the week. */
+    public static final int MAX_SLOTS_SHOWN = 5;
+
+    private final List<Index> targetIndexes;
+    private final int durationMinutes;
+
+    /**
+     * Creates a FindFreeCommand to find free times common to the persons at {@code targetIndexes}.
+     *
+     * @param durationMinutes Positive number of minutes, at most a week.
+     */
+    public FindFreeCommand(List<Index> targetIndexes, int durationMinutes) {
+        requireNonNull(targetIndexes);
+        assert !targetIndexes.isEmpty();
+        assert durationMinutes > 0 && durationMinutes <= WeekIndex.MINUTES_PER_WEEK;
+        this.targetIndexes = List.copyOf(targetIndexes);
+        this.durationMinutes = durationMinutes;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        AvailabilityMask common = null;
+        for (Index targetIndex : targetIndexes) {
+            if (targetIndex.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            AvailabilityMask mask = lastShownList.get(targetIndex.getZeroBased()).getAvailability().getMask();
+            if (common == null) {
+                common = mask;
+            } else {
+                common.and(mask);
+            }
+        }
+
+        // a free time must cover every bin that the duration touches
+        int bins = (durationMinutes + WeekIndex.MINUTES_PER_BIN - 1) / WeekIndex.MINUTES_PER_BIN;
+        List<String> freeSlots = new ArrayList<>();
+        int start = common.findFirstRun(bins, 0);
+        while (start >= 0 && freeSlots.size() < MAX_SLOTS_SHOWN) {
+            int end = common.nextUnavailable(start);
+            freeSlots.add(Availability.formatRange(start, end));
+            start = common.findFirstRun(bins, end);
+        }
+
+        if (freeSlots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_SLOTS, durationMinutes));
+        }
+        return new CommandResult(String.format(MESSAGE_FREE_SLOTS_FOUND, durationMinutes,
+                String.join("\n", freeSlots)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindFreeCommand)) {
+            return false;
+        }
+
+        FindFreeCommand otherFindFreeCommand = (FindFreeCommand) other;
+        return targetIndexes.equals(otherFindFreeCommand.targetIndexes)
+                && durationMinutes == otherFindFreeCommand.durationMinutes;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndexes", targetIndexes)
+                .add("durationMinutes", durationMinutes)
+                .toString();
+    }
+}
@@ -0,0 +1,206 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CsvPersonParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeSlot;
+
+/**
+ * Imports the persons in a CSV file into the address book. Rows that are invalid, that are the same person as an
+ * existing person or an earlier row, or whose time slot conflicts with an existing or earlier one, are rejected and
+ * reported by line number, while the other rows are imported.
+ *
+ * The rows are validated in parallel, as that is most of the work, and then checked for duplicates and conflicts in
+ * the order of the file. The accepted persons are added all at once, so the person list changes, and the address
+ * book is saved, once.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports the persons in a CSV file. "
+            + "The first row names the columns: " + String.join(", ", CsvPersonParser.REQUIRED_COLUMNS)
+            + " and optionally " + CsvPersonParser.COLUMN_RECURRENCE + ", " + CsvPersonParser.COLUMN_AVAILABILITY
+            + " and " + CsvPersonParser.COLUMN_TAGS + ", with values separated by "
+            + CsvPersonParser.VALUE_SEPARATOR + ".\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/students.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s, rejected %3$d rows";
+    public static final String MESSAGE_REJECTED_ROW = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_REJECTED_ROWS = "... and %1$d more rejected rows";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the file %1$s: %2$s";
+    public static final String MESSAGE_INVALID_HEADER = "The file %1$s does not start with a valid header row: %2$s";
+    public static final String MESSAGE_EMPTY_FILE = "The file %1$s has no header row";
+
+    /** The number of rejected rows that are reported one by one. */
+    public static final int MAX_REPORTED_REJECTS = 100;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the persons in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Row> rows = readRows().parallelStream()
+                .map(Row::validate)
+                .collect(Collectors.toList());
+
+        List<Person> accepted = new ArrayList<>();
+        List<String> rejects = new ArrayList<>();
+        Set<Name> acceptedNames = new HashSet<>();
+        for (Row row : rows) {
+            Optional<String> reason = row.reason.isPresent() ? row.reason : checkAgainst(model, acceptedNames, row);
+            if (reason.isPresent()) {
+                rejects.add(String.format(MESSAGE_REJECTED_ROW, row.lineNumber, reason.get()));
+                continue;
+            }
+            Person person = row.person;
+            model.getStorage().addSlot(person.getTimeSlot(), person.getRecurrence());
+            acceptedNames.add(person.getName());
+            accepted.add(person);
+        }
+
+        if (!accepted.isEmpty()) {
+            model.addPersons(accepted);
+        }
+        return new CommandResult(formatReport(accepted.size(), rejects));
+    }
+
+    /**
+     * Returns why the valid {@code row} cannot be imported into {@code model} after the persons named
+     * {@code acceptedNames}, if it cannot.
+     */
+    private static Optional<String> checkAgainst(Model model, Set<Name> acceptedNames, Row row) {
+        Person person = row.person;
+        if (acceptedNames.contains(person.getName()) || model.hasPerson(person)) {
+            return Optional.of(AddCommand.MESSAGE_DUPLICATE_PERSON);
+        }
+        Optional<TimeSlot> conflict = model.getStorage().findConflict(person.getTimeSlot(), person.getRecurrence());
+        return conflict.map(slot -> String.format(Messages.MESSAGE_TIMESLOT_CONFLICT_WITH, slot));
+    }
+
+    /**
+     * Reads the rows of the file, skipping blank lines, and prepares each one to be validated against the header.
+     */
+    private List<Row> readRows() throws CommandException {
+        List<Row> rows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+            CsvPersonParser parser = null;
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (parser == null) {
+                    parser = parseHeader(line);
+                } else {
+                    rows.add(new Row(parser, lineNumber, line));
+                }
+            }
+            if (parser == null) {
+                throw new CommandException(String.format(MESSAGE_EMPTY_FILE, filePath));
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath, e.getMessage()), e);
+        }
+        return rows;
+    }
+
+    private CsvPersonParser parseHeader(String line) throws CommandException {
+        try {
+            return CsvPersonParser.ofHeader(line);
+        } catch (ParseException pe) {
+            throw new CommandException(String.format(MESSAGE_INVALID_HEADER, filePath, pe.getMessage()), pe);
+        }
+    }
+
+    private String formatReport(int importedCount, List<String> rejects) {
+        StringBuilder report = new StringBuilder(
+                String.format(MESSAGE_SUCCESS, importedCount, filePath, rejects.size()));
+        rejects.stream().limit(MAX_REPORTED_REJECTS).forEach(reject -> report.append('\n').append(reject));
+        if (rejects.size() > MAX_REPORTED_REJECTS) {
+            report.append('\n').append(String.format(MESSAGE_MORE_REJECTED_ROWS,
+                    rejects.size() - MAX_REPORTED_REJECTS));
+        }
+        return report.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * A row of the file, which holds either the person parsed from it or the reason that it is invalid once it is
+     * validated.
+     */
+    private static class Row {
+        private final CsvPersonParser parser;
+        private final int lineNumber;
+        private final String line;
+        private Person person;
+        private Optional<String> reason = Optional.empty();
+
+        Row(CsvPersonParser parser, int lineNumber, String line) {
+            this.parser = parser;
+            this.lineNumber = lineNumber;
+            this.line = line;
+        }
+
+        /**
+         * Parses the row, and returns it.
+         */
+        Row validate() {
+            try {
+                person = parser.parse(line);
+            } catch (ParseException pe) {
+                reason = Optional.of(pe.getMessage());
+            }
+            return this;
+        }
+    }
+}
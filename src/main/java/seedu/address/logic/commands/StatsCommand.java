@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.CommandStatistics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each phase of the commands executed so far took, and how many bytes they allocated.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the p50 and p99 time taken and bytes allocated by each phase of each command.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Command statistics:\n%1$s";
+
+    private final CommandStatistics statistics;
+
+    /**
+     * Creates a StatsCommand that shows {@code statistics}.
+     */
+    public StatsCommand(CommandStatistics statistics) {
+        requireNonNull(statistics);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, statistics.getSummary()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return statistics == otherStatsCommand.statistics;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("statistics", statistics)
+                .toString();
+    }
+}
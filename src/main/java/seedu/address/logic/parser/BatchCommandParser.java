@@ -0,0 +1,119 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FilterTimeslotCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindFreeCommand;
+import seedu.address.logic.commands.FindTagCommand;
+import seedu.address.logic.commands.FindTimeslotCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object, by parsing every command in the file first so that
+ * a batch with an invalid command is rejected before any command is executed.
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the batch file %1$s: %2$s";
+    public static final String MESSAGE_EMPTY_BATCH = "The batch file %1$s contains no commands";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d is invalid, so no commands from the batch were "
+            + "applied: %2$s";
+    public static final String MESSAGE_NESTED_BATCH = "A batch file cannot contain another batch command";
+    public static final String MESSAGE_UNSUPPORTED_COMMAND = "A batch file can only add, edit, delete and clear "
+            + "persons, so it cannot contain the %1$s command";
+
+    private static final String COMMENT_START = "#";
+
+    /**
+     * The commands that do not change the address book, or that act on the UI or on other files. Their results would
+     * not be shown, and their effects on files would not be undone if a later command failed.
+     */
+    private static final Set<String> UNSUPPORTED_COMMAND_WORDS = Set.of(ExportCommand.COMMAND_WORD,
+            ImportCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD,
+            ListCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, FindTagCommand.COMMAND_WORD,
+            FindTimeslotCommand.COMMAND_WORD, FilterTimeslotCommand.COMMAND_WORD, FindFreeCommand.COMMAND_WORD);
+
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a {@code BatchCommandParser} that parses each line of a batch file with {@code addressBookParser}.
+     */
+    public BatchCommandParser(AddressBookParser addressBookParser) {
+        this.addressBookParser = requireNonNull(addressBookParser);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, if the file cannot be read, or
+     *     if any line of it is not a valid command or is a command that cannot be batched
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Path.of(trimmedArgs);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_FILE, trimmedArgs, e.getMessage()), e);
+        }
+
+        Map<Integer, Command> commandsByLine = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                String trimmedLine = line.trim();
+                if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_START)) {
+                    continue;
+                }
+                commandsByLine.put(lineNumber, parseLine(trimmedLine, lineNumber));
+            }
+        } catch (IOException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_FILE, filePath, e.getMessage()), e);
+        }
+
+        if (commandsByLine.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_EMPTY_BATCH, filePath));
+        }
+        return new BatchCommand(filePath, commandsByLine);
+    }
+
+    private Command parseLine(String line, int lineNumber) throws ParseException {
+        try {
+            // checked before parsing, which would read the other file
+            String commandWord = line.split("\\s+", 2)[0];
+            if (commandWord.equals(BatchCommand.COMMAND_WORD)) {
+                throw new ParseException(MESSAGE_NESTED_BATCH);
+            }
+            if (UNSUPPORTED_COMMAND_WORDS.contains(commandWord)) {
+                throw new ParseException(String.format(MESSAGE_UNSUPPORTED_COMMAND, commandWord));
+            }
+            return addressBookParser.parseCommand(line);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, pe.getMessage()), pe);
+        }
+    }
+}
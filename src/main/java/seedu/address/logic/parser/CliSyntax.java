@@ -12,9 +12,12 @@ public class CliSyntax {
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_TIMESLOT = new Prefix("ts/");
+    public static final Prefix PREFIX_AVAILABILITY = new Prefix("av/");
+    public static final Prefix PREFIX_RECURRENCE = new Prefix("r/");
 
     public static final Prefix PREFIX_START_DATE = new Prefix("sd/");
     public static final Prefix PREFIX_END_DATE = new Prefix("ed/");
     public static final Prefix PREFIX_START_TIME = new Prefix("st/");
     public static final Prefix PREFIX_END_TIME = new Prefix("et/");
+    public static final Prefix PREFIX_DURATION = new Prefix("d/");
 }
@@ -0,0 +1,171 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Availability;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Recurrence;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses the rows of a CSV file of persons, with the columns named by its header row, into {@code Person}s, and
+ * formats persons into such rows.
+ * The columns may be in any order. The tags and availability of a person are each one column, with their values
+ * separated by {@value #VALUE_SEPARATOR}.
+ *
+ * Parsing a row does not change any state, so rows may be parsed by several threads at once.
+ */
+public class CsvPersonParser {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_TIMESLOT = "timeslot";
+    public static final String COLUMN_RECURRENCE = "recurrence";
+    public static final String COLUMN_AVAILABILITY = "availability";
+    public static final String COLUMN_TAGS = "tags";
+
+    /** The columns that every file must have. */
+    public static final List<String> REQUIRED_COLUMNS =
+            List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_ADDRESS, COLUMN_TIMESLOT);
+    /** Every column, in the order that they are written in. */
+    public static final List<String> COLUMNS = List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_ADDRESS,
+            COLUMN_TIMESLOT, COLUMN_RECURRENCE, COLUMN_AVAILABILITY, COLUMN_TAGS);
+
+    public static final String VALUE_SEPARATOR = ";";
+
+    public static final String MESSAGE_MISSING_COLUMNS = "The header row has no column for: %1$s";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "The header row has an unknown column: %1$s";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "The header row has more than one column for: %1$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d";
+
+    /** Starts the files that some spreadsheet apps save as UTF-8 CSV, such as Excel's "CSV UTF-8". */
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final Map<String, Integer> columnIndexes;
+    private final int columnCount;
+
+    private CsvPersonParser(Map<String, Integer> columnIndexes, int columnCount) {
+        this.columnIndexes = columnIndexes;
+        this.columnCount = columnCount;
+    }
+
+    /**
+     * Returns a parser for the rows below {@code headerLine}, whose fields name the columns.
+     * A byte order mark at the start of {@code headerLine}, as the first line of the file, is ignored.
+     *
+     * @throws ParseException if the header row is not valid CSV, or names a column that is unknown or repeated, or
+     *     lacks a required column.
+     */
+    public static CsvPersonParser ofHeader(String headerLine) throws ParseException {
+        requireNonNull(headerLine);
+        List<String> names = splitLine(headerLine.startsWith(BYTE_ORDER_MARK)
+                ? headerLine.substring(BYTE_ORDER_MARK.length())
+                : headerLine);
+        Map<String, Integer> columnIndexes = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+            if (!COLUMNS.contains(name)) {
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_COLUMN, names.get(i).trim()));
+            }
+            if (columnIndexes.putIfAbsent(name, i) != null) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, name));
+            }
+        }
+
+        List<String> missing = REQUIRED_COLUMNS.stream()
+                .filter(column -> !columnIndexes.containsKey(column))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", missing)));
+        }
+        return new CsvPersonParser(columnIndexes, names.size());
+    }
+
+    /**
+     * Parses {@code line}, a row of the file, into a {@code Person}.
+     *
+     * @throws ParseException if the row is not valid CSV, has a different number of fields than the header, or has
+     *     a field that is not valid.
+     */
+    public Person parse(String line) throws ParseException {
+        requireNonNull(line);
+        List<String> fields = splitLine(line);
+        if (fields.size() != columnCount) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, columnCount, fields.size()));
+        }
+
+        Name name = ParserUtil.parseName(fields.get(columnIndexes.get(COLUMN_NAME)));
+        Phone phone = ParserUtil.parsePhone(fields.get(columnIndexes.get(COLUMN_PHONE)));
+        Email email = ParserUtil.parseEmail(fields.get(columnIndexes.get(COLUMN_EMAIL)));
+        Address address = ParserUtil.parseAddress(fields.get(columnIndexes.get(COLUMN_ADDRESS)));
+        TimeSlot timeSlot = ParserUtil.parseTimeSlot(fields.get(columnIndexes.get(COLUMN_TIMESLOT)));
+        Recurrence recurrence = Recurrence.NONE;
+        String recurrenceField = getOptionalField(fields, COLUMN_RECURRENCE);
+        if (!recurrenceField.isBlank()) {
+            recurrence = ParserUtil.parseRecurrence(recurrenceField);
+            if (!recurrence.isValidFrom(timeSlot.getDate())) {
+                throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
+            }
+        }
+        Availability availability = ParserUtil.parseAvailability(
+                splitValues(getOptionalField(fields, COLUMN_AVAILABILITY)));
+        Set<Tag> tags = ParserUtil.parseTags(splitValues(getOptionalField(fields, COLUMN_TAGS)));
+        return new Person(name, phone, email, address, timeSlot, recurrence, availability, tags);
+    }
+
+    /**
+     * Returns the fields of the row that {@code person} is written as, in the order of {@link #COLUMNS}.
+     */
+    public static List<String> toFields(Person person) {
+        requireNonNull(person);
+        return List.of(person.getName().fullName,
+                person.getPhone().value,
+                person.getEmail().value,
+                person.getAddress().value,
+                person.getTimeSlot().toString(),
+                person.getRecurrence().isRecurring() ? person.getRecurrence().toString() : "",
+                String.join(VALUE_SEPARATOR, person.getAvailability().toRanges()),
+                person.getTags().stream()
+                        .map(tag -> tag.tagName)
+                        .sorted()
+                        .collect(Collectors.joining(VALUE_SEPARATOR)));
+    }
+
+    private String getOptionalField(List<String> fields, String column) {
+        Integer index = columnIndexes.get(column);
+        return index == null ? "" : fields.get(index);
+    }
+
+    private static List<String> splitValues(String field) {
+        return Arrays.stream(field.split(VALUE_SEPARATOR))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> splitLine(String line) throws ParseException {
+        try {
+            return CsvUtil.splitLine(line);
+        } catch (IllegalValueException e) {
+            throw new ParseException(e.getMessage(), e);
+        }
+    }
+}
@@ -3,9 +3,11 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AVAILABILITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT;
 
@@ -18,6 +20,8 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Availability;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -34,7 +38,7 @@ public class EditCommandParser implements Parser<EditCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                        PREFIX_ADDRESS, PREFIX_TIMESLOT, PREFIX_TAG);
+                        PREFIX_ADDRESS, PREFIX_TIMESLOT, PREFIX_RECURRENCE, PREFIX_AVAILABILITY, PREFIX_TAG);
 
         Index index;
 
@@ -45,7 +49,7 @@ public class EditCommandParser implements Parser<EditCommand> {
         }
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                PREFIX_ADDRESS, PREFIX_TIMESLOT);
+                PREFIX_ADDRESS, PREFIX_TIMESLOT, PREFIX_RECURRENCE);
 
         EditPersonDescriptor editPersonDescriptor = new EditPersonDescriptor();
 
@@ -66,6 +70,12 @@ public class EditCommandParser implements Parser<EditCommand> {
             editPersonDescriptor.setTimeSlot(ParserUtil.parseTimeSlot(argMultimap.getValue(PREFIX_TIMESLOT).get()));
         }
 
+        if (argMultimap.getValue(PREFIX_RECURRENCE).isPresent()) {
+            editPersonDescriptor.setRecurrence(parseRecurrenceForEdit(argMultimap.getValue(PREFIX_RECURRENCE).get()));
+        }
+
+        parseAvailabilityForEdit(argMultimap.getAllValues(PREFIX_AVAILABILITY))
+                .ifPresent(editPersonDescriptor::setAvailability);
         parseTagsForEdit(argMultimap.getAllValues(PREFIX_TAG)).ifPresent(editPersonDescriptor::setTags);
 
         if (!editPersonDescriptor.isAnyFieldEdited()) {
@@ -75,6 +85,29 @@ public class EditCommandParser implements Parser<EditCommand> {
         return new EditCommand(index, editPersonDescriptor);
     }
 
+    /**
+     * Parses {@code String recurrence} into a {@code Recurrence}.
+     * An empty string is parsed into {@link Recurrence#NONE}, which stops the time slot from repeating.
+     */
+    private Recurrence parseRecurrenceForEdit(String recurrence) throws ParseException {
+        return recurrence.isEmpty() ? Recurrence.NONE : ParserUtil.parseRecurrence(recurrence);
+    }
+
+    /**
+     * Parses {@code Collection<String> ranges} into an {@code Availability} if {@code ranges} is non-empty.
+     * If {@code ranges} contain only one element which is an empty string, it will be parsed into an
+     * {@code Availability} with no free time.
+     */
+    private Optional<Availability> parseAvailabilityForEdit(Collection<String> ranges) throws ParseException {
+        assert ranges != null;
+
+        if (ranges.isEmpty()) {
+            return Optional.empty();
+        }
+        Collection<String> rangeSet = ranges.size() == 1 && ranges.contains("") ? Collections.emptySet() : ranges;
+        return Optional.of(ParserUtil.parseAvailability(rangeSet));
+    }
+
     /**
      * Parses {@code Collection<String> tags} into a {@code Set<Tag>} if {@code tags} is non-empty.
      * If {@code tags} contain only one element which is an empty string, it will be parsed into a
@@ -37,14 +37,30 @@ public class FilterTimeslotCommandParser implements Parser<FilterTimeslotCommand
         }
 
         // We need to check if at least one prefix is present
-        if (argMultimap.getValue(PREFIX_START_DATE).isEmpty()
-                && argMultimap.getValue(PREFIX_END_DATE).isEmpty()
-                && argMultimap.getValue(PREFIX_START_TIME).isEmpty()
-                && argMultimap.getValue(PREFIX_END_TIME).isEmpty()) {
+        if (!isRangePresent(argMultimap)) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterTimeslotCommand.MESSAGE_USAGE));
         }
 
+        return new FilterTimeslotCommand(parseRange(argMultimap));
+    }
+
+    /**
+     * Returns true if {@code argMultimap} has a value for any of the range prefixes.
+     */
+    static boolean isRangePresent(ArgumentMultimap argMultimap) {
+        return argMultimap.getValue(PREFIX_START_DATE).isPresent()
+                || argMultimap.getValue(PREFIX_END_DATE).isPresent()
+                || argMultimap.getValue(PREFIX_START_TIME).isPresent()
+                || argMultimap.getValue(PREFIX_END_TIME).isPresent();
+    }
+
+    /**
+     * Parses the values of the range prefixes in {@code argMultimap}, each of which is optional, into a
+     * {@code TimeslotRangePredicate}.
+     * @throws ParseException if a value is invalid, or the range ends before it starts
+     */
+    static TimeslotRangePredicate parseRange(ArgumentMultimap argMultimap) throws ParseException {
         // Parse all the optional values
         Optional<LocalDate> startDate = Optional.empty();
         if (argMultimap.getValue(PREFIX_START_DATE).isPresent()) {
@@ -71,18 +87,10 @@ public class FilterTimeslotCommandParser implements Parser<FilterTimeslotCommand
             throw new ParseException("Start date must be before or on end date.");
         }
 
-        // Add validation logic
-        if (startDate.isPresent() && endDate.isPresent() && startDate.get().isAfter(endDate.get())) {
-            throw new ParseException("Start date must be before or on end date.");
-        }
-
         if (startTime.isPresent() && endTime.isPresent() && startTime.get().isAfter(endTime.get())) {
             throw new ParseException("Start time must be before or on end time.");
         }
 
-        TimeslotRangePredicate predicate = new TimeslotRangePredicate(
-                startDate, endDate, startTime, endTime);
-
-        return new FilterTimeslotCommand(predicate);
+        return new TimeslotRangePredicate(startDate, endDate, startTime, endTime);
     }
 }
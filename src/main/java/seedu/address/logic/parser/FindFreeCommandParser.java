@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.FindFreeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindFreeCommand object
+ */
+public class FindFreeCommandParser implements Parser<FindFreeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindFreeCommand
+     * and returns a FindFreeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindFreeCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DURATION);
+
+        String preamble = argMultimap.getPreamble().trim();
+        if (preamble.isEmpty() || argMultimap.getValue(PREFIX_DURATION).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFreeCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DURATION);
+
+        List<Index> indexes = new ArrayList<>();
+        try {
+            for (String index : preamble.split("\\s+")) {
+                indexes.add(ParserUtil.parseIndex(index));
+            }
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFreeCommand.MESSAGE_USAGE), pe);
+        }
+
+        int durationMinutes = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        return new FindFreeCommand(indexes, durationMinutes);
+    }
+
+}
@@ -14,10 +14,13 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.Availability;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.person.TimeSlot;
+import seedu.address.model.person.timesheet.WeekIndex;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -26,6 +29,8 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DURATION =
+            "Duration should be a positive number of minutes, at most a week (" + WeekIndex.MINUTES_PER_WEEK + ").";
 
     // Formatter for HHmm time
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
@@ -43,6 +48,21 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code minutes} into a number of minutes and returns it. Leading and trailing whitespaces will be
+     * trimmed.
+     * @throws ParseException if the specified duration is not a positive number of minutes, at most a week.
+     */
+    public static int parseDuration(String minutes) throws ParseException {
+        requireNonNull(minutes);
+        String trimmedMinutes = minutes.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedMinutes)
+                || Integer.parseInt(trimmedMinutes) > WeekIndex.MINUTES_PER_WEEK) {
+            throw new ParseException(MESSAGE_INVALID_DURATION);
+        }
+        return Integer.parseInt(trimmedMinutes);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -145,6 +165,37 @@ public class ParserUtil {
         return new TimeSlot(trimmedTimeSlot);
     }
 
+    /**
+     * Parses {@code Collection<String> ranges} into an {@code Availability} that is free in each of them.
+     * Leading and trailing whitespaces of each range will be trimmed.
+     *
+     * @throws ParseException if any of the given {@code ranges} is invalid.
+     */
+    public static Availability parseAvailability(Collection<String> ranges) throws ParseException {
+        requireNonNull(ranges);
+        for (String range : ranges) {
+            if (!Availability.isValidRange(range)) {
+                throw new ParseException(Availability.MESSAGE_CONSTRAINTS);
+            }
+        }
+        return Availability.fromRanges(ranges);
+    }
+
+    /**
+     * Parses a {@code String recurrence} into a {@code Recurrence}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code recurrence} is invalid.
+     */
+    public static Recurrence parseRecurrence(String recurrence) throws ParseException {
+        requireNonNull(recurrence);
+        String trimmedRecurrence = recurrence.trim();
+        if (!Recurrence.isValidRecurrence(trimmedRecurrence)) {
+            throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        return new Recurrence(trimmedRecurrence);
+    }
+
     // --- NEW METHODS ---
 
     /**
@@ -3,10 +3,13 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeslotRangePredicate;
+import seedu.address.model.person.TimeslotStartTimeContainsKeywordsPredicate;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -75,6 +78,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds {@code toAdd} to the address book all at once.
+     * {@code toAdd} must not contain duplicate persons, or persons who already exist in the address book.
+     */
+    public void addPersons(List<Person> toAdd) {
+        persons.addAll(toAdd);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -94,6 +105,42 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns a counter that is incremented whenever the persons in this {@code AddressBook} are modified.
+     */
+    public long getVersion() {
+        return persons.getVersion();
+    }
+
+    /**
+     * Returns the persons in this {@code AddressBook} whose time slot is in the range of {@code predicate}.
+     */
+    public List<Person> getPersonsInTimeslotRange(TimeslotRangePredicate predicate) {
+        return persons.getPersonsInRange(predicate);
+    }
+
+    /**
+     * Returns the persons in this {@code AddressBook} that match {@code predicate}.
+     */
+    public Set<Person> getPersonsWithTimeslotStart(TimeslotStartTimeContainsKeywordsPredicate predicate) {
+        return persons.getPersonsWithTimeslotStart(predicate);
+    }
+
+    /**
+     * Returns the persons in this {@code AddressBook} with a word in their name that contains any of
+     * {@code keywords}, ignoring case.
+     */
+    public Set<Person> getPersonsWithNameContaining(List<String> keywords) {
+        return persons.getPersonsWithNameContaining(keywords);
+    }
+
+    /**
+     * Returns the persons in this {@code AddressBook} with a tag that contains any of {@code keywords}, ignoring case.
+     */
+    public Set<Person> getPersonsWithTagContaining(List<String> keywords) {
+        return persons.getPersonsWithTagContaining(keywords);
+    }
+
     //// util methods
 
     @Override
@@ -2,11 +2,15 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeslotRangePredicate;
+import seedu.address.model.person.TimeslotStartTimeContainsKeywordsPredicate;
 import seedu.address.storage.Storage;
 
 /**
@@ -54,11 +58,43 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a counter that changes whenever the address book data is modified.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the persons in the address book whose time slot is in the range of {@code predicate}.
+     * This is faster than testing {@code predicate} against every person.
+     */
+    List<Person> getPersonsInTimeslotRange(TimeslotRangePredicate predicate);
+
+    /**
+     * Returns the persons in the address book that match {@code predicate}, by looking up its dates and start times
+     * instead of testing every person.
+     * The returned set compares persons by identity.
+     */
+    Set<Person> getPersonsWithTimeslotStart(TimeslotStartTimeContainsKeywordsPredicate predicate);
+
+    /**
+     * Returns the persons in the address book that {@code NameContainsKeywordsPredicate} would match for
+     * {@code keywords}, without testing every person.
+     * The returned set compares persons by identity.
+     */
+    Set<Person> getPersonsWithNameContaining(List<String> keywords);
+
+    /**
+     * Returns the persons in the address book that {@code TagContainsKeywordsPredicate} would match for
+     * {@code keywords}, without testing every person.
+     * The returned set compares persons by identity.
+     */
+    Set<Person> getPersonsWithTagContaining(List<String> keywords);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -71,6 +107,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons all at once.
+     * {@code persons} must not contain the same person twice, or a person who already exists in the address book.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -87,6 +129,24 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns the filter of the filtered person list, including an update that is held back.
+     */
+    Predicate<Person> getFilteredPersonPredicate();
+
+    /**
+     * Holds back updates to the filter of the filtered person list until {@link #resumeFilterUpdates()}, so that a
+     * run of updates filters the list once rather than once per update. The last update held back is still applied
+     * before the filtered person list is read.
+     */
+    void suspendFilterUpdates();
+
+    /**
+     * Applies the last update to the filter that was held back since {@link #suspendFilterUpdates()}, and stops
+     * holding back updates.
+     */
+    void resumeFilterUpdates();
+
     /**
      * Sorts the filtered person list using the given {@code comparator}.
      * @throws NullPointerException if {@code comparator} is null.
@@ -5,6 +5,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,6 +16,8 @@ import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeslotRangePredicate;
+import seedu.address.model.person.TimeslotStartTimeContainsKeywordsPredicate;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -30,6 +34,8 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final SortedList<Person> sortedPersons;
     private final Storage storage;
+    private boolean isFilterUpdateSuspended;
+    private Predicate<Person> heldBackPredicate;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -121,12 +127,41 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public List<Person> getPersonsInTimeslotRange(TimeslotRangePredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.getPersonsInTimeslotRange(predicate);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithTimeslotStart(TimeslotStartTimeContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.getPersonsWithTimeslotStart(predicate);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameContaining(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPersonsWithNameContaining(keywords);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithTagContaining(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPersonsWithTagContaining(keywords);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -138,6 +173,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -153,15 +195,47 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
+        applyHeldBackPredicate();
         return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (isFilterUpdateSuspended) {
+            heldBackPredicate = predicate;
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Person> getFilteredPersonPredicate() {
+        if (heldBackPredicate != null) {
+            return heldBackPredicate;
+        }
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return predicate == null ? PREDICATE_SHOW_ALL_PERSONS : predicate::test;
+    }
+
+    @Override
+    public void suspendFilterUpdates() {
+        isFilterUpdateSuspended = true;
+    }
+
+    @Override
+    public void resumeFilterUpdates() {
+        isFilterUpdateSuspended = false;
+        applyHeldBackPredicate();
+    }
+
+    private void applyHeldBackPredicate() {
+        if (heldBackPredicate != null) {
+            filteredPersons.setPredicate(heldBackPredicate);
+            heldBackPredicate = null;
+        }
+    }
+
     @Override
     public void sortFilteredPersonList(Comparator<Person> comparator) {
         sortedPersons.setComparator(comparator);
@@ -0,0 +1,179 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.model.person.timesheet.AvailabilityMask;
+import seedu.address.model.person.timesheet.WeekIndex;
+
+/**
+ * Represents the times of the week at which a Person is usually free, in bins of
+ * {@link WeekIndex#MINUTES_PER_BIN} minutes from Monday 0000.
+ * Guarantees: immutable; every range it was created from is valid as declared in {@link #isValidRange(String)}
+ */
+public class Availability {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Availability should be in the format DAY HHMM-HHMM, where DAY is one of MON, TUE, WED, THU, FRI, SAT "
+                    + "and SUN, both times are on the hour or half hour, and the start time is before the end time. "
+                    + "An end time of 2400 is the end of the day.\n"
+                    + "Example: MON 0900-1230";
+
+    /** No free time at all, which is the availability of persons who have not given one. */
+    public static final Availability NONE = new Availability(AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK));
+
+    private static final Pattern RANGE_FORMAT =
+            Pattern.compile("(?<day>[A-Za-z]{3}) (?<start>\\d{2}[03]0)-(?<end>\\d{2}[03]0)");
+    private static final int BINS_PER_HOUR = 60 / WeekIndex.MINUTES_PER_BIN;
+
+    private final AvailabilityMask mask;
+
+    /**
+     * Constructs an {@code Availability} with the free bins of {@code mask}.
+     *
+     * @param mask A mask with a bin for every {@link WeekIndex#MINUTES_PER_BIN} minutes of the week.
+     */
+    public Availability(AvailabilityMask mask) {
+        requireNonNull(mask);
+        checkArgument(mask.size() == WeekIndex.BINS_PER_WEEK, MESSAGE_CONSTRAINTS);
+        this.mask = mask.copy();
+    }
+
+    /**
+     * Returns the availability that is free in each of {@code ranges}, which may overlap.
+     *
+     * @throws IllegalArgumentException if any of {@code ranges} is invalid.
+     */
+    public static Availability fromRanges(Collection<String> ranges) {
+        requireNonNull(ranges);
+        AvailabilityMask mask = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        for (String range : ranges) {
+            checkArgument(isValidRange(range), MESSAGE_CONSTRAINTS);
+            Matcher matcher = RANGE_FORMAT.matcher(range.trim());
+            matcher.matches();
+            int dayStart = parseDay(matcher.group("day")).ordinal() * WeekIndex.BINS_PER_DAY;
+            mask.setRange(dayStart + parseBin(matcher.group("start")), dayStart + parseBin(matcher.group("end")), true);
+        }
+        return new Availability(mask);
+    }
+
+    /**
+     * Returns true if {@code test} is a valid range of free time on one day of the week.
+     */
+    public static boolean isValidRange(String test) {
+        if (test == null) {
+            return false;
+        }
+        Matcher matcher = RANGE_FORMAT.matcher(test.trim());
+        if (!matcher.matches() || parseDay(matcher.group("day")) == null) {
+            return false;
+        }
+        int startBin = parseBin(matcher.group("start"));
+        int endBin = parseBin(matcher.group("end"));
+        return startBin < endBin && endBin <= WeekIndex.BINS_PER_DAY;
+    }
+
+    /**
+     * Returns the bins at which this person is free.
+     * The returned mask is a copy, so changing it does not change this availability.
+     */
+    public AvailabilityMask getMask() {
+        return mask.copy();
+    }
+
+    /**
+     * Returns true if this person is never free.
+     */
+    public boolean isEmpty() {
+        return mask.cardinality() == 0;
+    }
+
+    /**
+     * Returns the free time as ranges in the format of {@link #isValidRange(String)}, in order from Monday 0000.
+     * Free time that continues past midnight is split into a range for each day.
+     */
+    public List<String> toRanges() {
+        List<String> ranges = new ArrayList<>();
+        int start = mask.nextAvailable(0);
+        while (start >= 0) {
+            int dayEnd = (start / WeekIndex.BINS_PER_DAY + 1) * WeekIndex.BINS_PER_DAY;
+            int end = Math.min(mask.nextUnavailable(start), dayEnd);
+            ranges.add(formatRange(start, end));
+            start = mask.nextAvailable(end);
+        }
+        return ranges;
+    }
+
+    /**
+     * Returns the bins from {@code startBin} to {@code endBin} of the week as text, e.g. "MON 0900-1230", or
+     * "MON 2200-TUE 0200" if they are on different days.
+     */
+    public static String formatRange(int startBin, int endBin) {
+        // a range ending at midnight ends at 2400 of the day it is on, rather than 0000 of the next day
+        int startDay = startBin / WeekIndex.BINS_PER_DAY;
+        int endDay = (endBin - 1) / WeekIndex.BINS_PER_DAY;
+        String end = formatTime(endBin - endDay * WeekIndex.BINS_PER_DAY);
+        return formatDay(startDay) + " " + formatTime(startBin - startDay * WeekIndex.BINS_PER_DAY) + "-"
+                + (startDay == endDay ? end : formatDay(endDay) + " " + end);
+    }
+
+    private static DayOfWeek parseDay(String day) {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (formatDay(dayOfWeek.ordinal()).equalsIgnoreCase(day)) {
+                return dayOfWeek;
+            }
+        }
+        return null;
+    }
+
+    private static String formatDay(int day) {
+        return DayOfWeek.values()[day].name().substring(0, 3);
+    }
+
+    /**
+     * Returns the bin of the day that {@code time}, in the format HHMM, starts.
+     */
+    private static int parseBin(String time) {
+        int hours = Integer.parseInt(time.substring(0, 2));
+        int minutes = Integer.parseInt(time.substring(2));
+        return hours * BINS_PER_HOUR + minutes / WeekIndex.MINUTES_PER_BIN;
+    }
+
+    private static String formatTime(int binOfDay) {
+        return String.format(Locale.ROOT, "%02d%02d",
+                binOfDay / BINS_PER_HOUR, binOfDay % BINS_PER_HOUR * WeekIndex.MINUTES_PER_BIN);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Availability)) {
+            return false;
+        }
+
+        Availability otherAvailability = (Availability) other;
+        return mask.equals(otherAvailability.mask);
+    }
+
+    @Override
+    public int hashCode() {
+        return mask.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.join(", ", toRanges());
+    }
+}
@@ -24,18 +24,40 @@ public class Person {
     // Data fields
     private final Address address;
     private final TimeSlot timeSlot;
+    private final Recurrence recurrence;
+    private final Availability availability;
     private final Set<Tag> tags = new HashSet<>();
 
     /**
      * Every field must be present and not null.
+     * The person has no weekly availability.
      */
     public Person(Name name, Phone phone, Email email, Address address, TimeSlot timeSlot, Set<Tag> tags) {
-        requireAllNonNull(name, phone, email, address, tags);
+        this(name, phone, email, address, timeSlot, Availability.NONE, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * The person's time slot does not repeat.
+     */
+    public Person(Name name, Phone phone, Email email, Address address, TimeSlot timeSlot,
+            Availability availability, Set<Tag> tags) {
+        this(name, phone, email, address, timeSlot, Recurrence.NONE, availability, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Person(Name name, Phone phone, Email email, Address address, TimeSlot timeSlot, Recurrence recurrence,
+            Availability availability, Set<Tag> tags) {
+        requireAllNonNull(name, phone, email, address, recurrence, availability, tags);
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.timeSlot = timeSlot;
+        this.recurrence = recurrence;
+        this.availability = availability;
         this.tags.addAll(tags);
     }
 
@@ -59,6 +81,17 @@ public class Person {
         return timeSlot;
     }
 
+    /**
+     * Returns how the time slot repeats, which is {@link Recurrence#NONE} if it only occurs once.
+     */
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    public Availability getAvailability() {
+        return availability;
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -101,13 +134,15 @@ public class Person {
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
                 && tags.equals(otherPerson.tags)
-                && timeSlot.equals(otherPerson.timeSlot);
+                && timeSlot.equals(otherPerson.timeSlot)
+                && recurrence.equals(otherPerson.recurrence)
+                && availability.equals(otherPerson.availability);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, timeSlot);
+        return Objects.hash(name, phone, email, address, tags, timeSlot, recurrence, availability);
     }
 
     @Override
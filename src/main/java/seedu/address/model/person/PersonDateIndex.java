@@ -0,0 +1,169 @@
+package seedu.address.model.person;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Indexes persons by the date of their {@code TimeSlot}, and within each date by start time, so that persons in a
+ * date and time range can be found without testing every person.
+ * Persons are removed by {@code Person#equals(Object)}, like in {@link UniquePersonList}. Persons without a time slot
+ * are not indexed, as they are never in a range.
+ *
+ * Persons with a recurring time slot are kept apart from the dates, as they occur on any number of them. They are
+ * matched against a date or range from their {@code Recurrence}, so their occurrences are never stored.
+ */
+class PersonDateIndex {
+
+    private final NavigableMap<LocalDate, List<Person>> personsByDate = new TreeMap<>();
+    private final List<Person> recurringPersons = new ArrayList<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        if (person.getTimeSlot() == null) {
+            return;
+        }
+        if (person.getRecurrence().isRecurring()) {
+            recurringPersons.add(person);
+            return;
+        }
+        List<Person> persons = personsByDate.computeIfAbsent(person.getTimeSlot().getDate(),
+                unused -> new ArrayList<>());
+        persons.add(countStartingBy(persons, person.getTimeSlot().getStartTime()), person);
+    }
+
+    /**
+     * Removes {@code person} from the index, if it is there.
+     */
+    void remove(Person person) {
+        if (person.getTimeSlot() == null) {
+            return;
+        }
+        if (person.getRecurrence().isRecurring()) {
+            recurringPersons.remove(person);
+            return;
+        }
+        LocalDate date = person.getTimeSlot().getDate();
+        List<Person> persons = personsByDate.get(date);
+        if (persons == null) {
+            return;
+        }
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            personsByDate.remove(date);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    void setAll(Iterable<Person> persons) {
+        personsByDate.clear();
+        recurringPersons.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose time slot, or one of its occurrences, is on {@code date}, ordered by start time.
+     * The returned list must not be modified.
+     */
+    List<Person> getOn(LocalDate date) {
+        List<Person> persons = personsByDate.getOrDefault(date, List.of());
+        List<Person> recurring = new ArrayList<>();
+        for (Person person : recurringPersons) {
+            if (person.getRecurrence().occursOn(person.getTimeSlot().getDate(), date)) {
+                recurring.add(person);
+            }
+        }
+        if (recurring.isEmpty()) {
+            return persons;
+        }
+        recurring.addAll(persons);
+        recurring.sort(Comparator.comparing(person -> person.getTimeSlot().getStartTime()));
+        return recurring;
+    }
+
+    /**
+     * Returns the persons whose time slot is on a date from {@code startDate} to {@code endDate} and overlaps with the
+     * time from {@code startTime} to {@code endTime}, ordered by date and start time. Empty bounds are unbounded.
+     * This matches {@link TimeslotRangePredicate#test(Person)}.
+     */
+    List<Person> findInRange(Optional<LocalDate> startDate, Optional<LocalDate> endDate,
+            Optional<LocalTime> startTime, Optional<LocalTime> endTime) {
+        NavigableMap<LocalDate, List<Person>> dates = personsByDate;
+        if (startDate.isPresent() && endDate.isPresent() && startDate.get().isAfter(endDate.get())) {
+            return new ArrayList<>();
+        }
+        if (startDate.isPresent()) {
+            dates = dates.tailMap(startDate.get(), true);
+        }
+        if (endDate.isPresent()) {
+            dates = dates.headMap(endDate.get(), true);
+        }
+
+        List<Person> matches = new ArrayList<>();
+        for (List<Person> persons : dates.values()) {
+            // Persons that start after the end time are at the end of the list, so they are never looked at.
+            int count = endTime.map(end -> countStartingBy(persons, end)).orElse(persons.size());
+            for (int i = 0; i < count; i++) {
+                Person person = persons.get(i);
+                if (startTime.isEmpty() || !person.getTimeSlot().getEndTime().isBefore(startTime.get())) {
+                    matches.add(person);
+                }
+            }
+        }
+        return recurringPersons.isEmpty() ? matches : addRecurringInRange(matches,
+                new TimeslotRangePredicate(startDate, endDate, startTime, endTime));
+    }
+
+    /**
+     * Adds the recurring persons with an occurrence that matches {@code predicate} to {@code matches}, which are the
+     * matching persons on dates, keeping them ordered by the date of their earliest matching occurrence and then by
+     * start time.
+     */
+    private List<Person> addRecurringInRange(List<Person> matches, TimeslotRangePredicate predicate) {
+        Map<Person, LocalDate> matchingDates = new IdentityHashMap<>();
+        for (Person person : recurringPersons) {
+            if (predicate.test(person)) {
+                TimeSlot slot = person.getTimeSlot();
+                matchingDates.put(person, predicate.matchingDate(slot.getDate(), person.getRecurrence()).get());
+            }
+        }
+        if (matchingDates.isEmpty()) {
+            return matches;
+        }
+        List<Person> merged = new ArrayList<>(matches);
+        merged.addAll(matchingDates.keySet());
+        merged.sort(Comparator.comparing((Person person) ->
+                        matchingDates.getOrDefault(person, person.getTimeSlot().getDate()))
+                .thenComparing(person -> person.getTimeSlot().getStartTime()));
+        return merged;
+    }
+
+    /**
+     * Returns the number of persons in {@code persons}, which is sorted by start time, that start at or before
+     * {@code time}.
+     */
+    private static int countStartingBy(List<Person> persons, LocalTime time) {
+        int low = 0;
+        int high = persons.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (persons.get(mid).getTimeSlot().getStartTime().isAfter(time)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes persons by the start time of their {@code TimeSlot}, so that the persons starting at a time can be found
+ * with a single lookup.
+ * Persons are removed by {@code Person#equals(Object)}, like in {@link UniquePersonList}. Persons without a time slot
+ * are not indexed.
+ */
+class PersonStartTimeIndex {
+
+    private final Map<LocalTime, Set<Person>> personsByStartTime = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        if (person.getTimeSlot() == null) {
+            return;
+        }
+        personsByStartTime.computeIfAbsent(person.getTimeSlot().getStartTime(), unused -> new HashSet<>()).add(person);
+    }
+
+    /**
+     * Removes {@code person} from the index, if it is there.
+     */
+    void remove(Person person) {
+        if (person.getTimeSlot() == null) {
+            return;
+        }
+        LocalTime startTime = person.getTimeSlot().getStartTime();
+        Set<Person> persons = personsByStartTime.get(startTime);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            personsByStartTime.remove(startTime);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    void setAll(Iterable<Person> persons) {
+        personsByStartTime.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose time slot starts at {@code startTime}.
+     * The returned set must not be modified.
+     */
+    Set<Person> getStartingAt(LocalTime startTime) {
+        return personsByStartTime.getOrDefault(startTime, Set.of());
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Indexes persons by the lower-cased words of one of their fields, so that the persons with a word containing a
+ * keyword can be found by looking at each distinct word once, instead of splitting and lower-casing the field of every
+ * person.
+ * Persons are removed by {@code Person#equals(Object)}, like in {@link UniquePersonList}.
+ *
+ * @see StringUtil#containsWordIgnoreCase(String, String)
+ */
+class PersonTokenIndex {
+
+    private final Function<Person, Collection<String>> wordsOf;
+    private final Map<String, Set<Person>> personsByWord = new HashMap<>();
+
+    /**
+     * Creates an index of the words returned by {@code wordsOf} for each person.
+     * The words do not need to be lower-cased.
+     */
+    PersonTokenIndex(Function<Person, Collection<String>> wordsOf) {
+        this.wordsOf = wordsOf;
+    }
+
+    /**
+     * Returns an index of the words of each person's name.
+     */
+    static PersonTokenIndex ofNameWords() {
+        return new PersonTokenIndex(person -> List.of(person.getName().fullName.split("\\s+")));
+    }
+
+    /**
+     * Returns an index of each person's tag names.
+     * Tag names are single words, so each tag name is one word.
+     */
+    static PersonTokenIndex ofTagNames() {
+        return new PersonTokenIndex(person -> person.getTags().stream().map(tag -> tag.tagName).toList());
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        for (String word : wordsOf.apply(person)) {
+            personsByWord.computeIfAbsent(word.toLowerCase(), unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index, if it is there.
+     */
+    void remove(Person person) {
+        for (String word : wordsOf.apply(person)) {
+            String lowerCaseWord = word.toLowerCase();
+            Set<Person> persons = personsByWord.get(lowerCaseWord);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByWord.remove(lowerCaseWord);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    void setAll(Iterable<Person> persons) {
+        personsByWord.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons with a word that contains any of {@code keywords}, ignoring case.
+     * This matches testing each person's words with {@link StringUtil#containsWordIgnoreCase(String, String)}.
+     * The returned set compares persons by identity, as they are the same instances that were added.
+     */
+    Set<Person> findContainingAny(List<String> keywords) {
+        List<String> lowerCaseKeywords = keywords.stream().map(keyword -> keyword.trim().toLowerCase()).toList();
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<String, Set<Person>> entry : personsByWord.entrySet()) {
+            String word = entry.getKey();
+            if (lowerCaseKeywords.stream().anyMatch(word::contains)) {
+                matches.addAll(entry.getValue());
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,191 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Represents how a Person's lesson time slot repeats, if it does.
+ * A recurring time slot occurs every {@link #getIntervalWeeks()} weeks from the date of the time slot, on every
+ * such date up to and including the until-date. Only this rule is stored, so occurrences are found arithmetically
+ * from it instead of being kept as separate time slots.
+ * Guarantees: immutable; is valid as declared in {@link #isValidRecurrence(String)}
+ */
+public class Recurrence {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Recurrence should be WEEKLY or BIWEEKLY, followed by the last date it may occur on in the format "
+                    + "YYYY-MM-DD, which is not before the date of the time slot.\n"
+                    + "Example: weekly 2025-12-31";
+
+    /** A time slot that only occurs once. */
+    public static final Recurrence NONE = new Recurrence(0, LocalDate.MIN);
+
+    private static final String WEEKLY = "WEEKLY";
+    private static final String BIWEEKLY = "BIWEEKLY";
+
+    private final int intervalWeeks;
+    private final LocalDate until;
+
+    /**
+     * Constructs a {@code Recurrence}.
+     *
+     * @param recurrence A valid recurrence, e.g. "weekly 2025-12-31".
+     */
+    public Recurrence(String recurrence) {
+        requireNonNull(recurrence);
+        checkArgument(isValidRecurrence(recurrence), MESSAGE_CONSTRAINTS);
+        String[] parts = recurrence.trim().split("\\s+");
+        this.intervalWeeks = parts[0].equalsIgnoreCase(WEEKLY) ? 1 : 2;
+        this.until = LocalDate.parse(parts[1]);
+    }
+
+    /**
+     * Constructs a {@code Recurrence} that occurs every {@code intervalWeeks} weeks, up to and including
+     * {@code until}.
+     */
+    public Recurrence(int intervalWeeks, LocalDate until) {
+        requireNonNull(until);
+        checkArgument(intervalWeeks >= 0 && intervalWeeks <= 2, MESSAGE_CONSTRAINTS);
+        this.intervalWeeks = intervalWeeks;
+        this.until = intervalWeeks == 0 ? LocalDate.MIN : until;
+    }
+
+    /**
+     * Returns true if a given string is a valid recurrence.
+     */
+    public static boolean isValidRecurrence(String test) {
+        if (test == null) {
+            return false;
+        }
+        String[] parts = test.trim().split("\\s+");
+        if (parts.length != 2
+                || !(parts[0].equalsIgnoreCase(WEEKLY) || parts[0].equalsIgnoreCase(BIWEEKLY))) {
+            return false;
+        }
+        try {
+            // only dates written the way they are printed are valid, e.g. not 2025-02-30
+            return LocalDate.parse(parts[1]).toString().equals(parts[1]);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if this may repeat a time slot that is first on {@code first}, i.e. it does not end before it.
+     */
+    public boolean isValidFrom(LocalDate first) {
+        return !isRecurring() || !until.isBefore(first);
+    }
+
+    /**
+     * Returns true if this repeats, i.e. it is not {@link #NONE}.
+     */
+    public boolean isRecurring() {
+        return intervalWeeks > 0;
+    }
+
+    /**
+     * Returns the number of weeks between occurrences, or 0 if this does not repeat.
+     */
+    public int getIntervalWeeks() {
+        return intervalWeeks;
+    }
+
+    /**
+     * Returns the last date that this may occur on, or {@code LocalDate.MIN} if this does not repeat.
+     */
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    /**
+     * Returns the date of the last occurrence of a time slot that is first on {@code first}.
+     */
+    public LocalDate lastDate(LocalDate first) {
+        if (!isRecurring() || until.isBefore(first)) {
+            return first;
+        }
+        long periods = ChronoUnit.DAYS.between(first, until) / periodDays();
+        return first.plusDays(periods * periodDays());
+    }
+
+    /**
+     * Returns true if a time slot that is first on {@code first} occurs on {@code date}.
+     */
+    public boolean occursOn(LocalDate first, LocalDate date) {
+        if (date.isBefore(first) || date.isAfter(lastDate(first))) {
+            return false;
+        }
+        return !isRecurring() ? date.equals(first) : ChronoUnit.DAYS.between(first, date) % periodDays() == 0;
+    }
+
+    /**
+     * Returns the date of the earliest occurrence on or after {@code from} of a time slot that is first on
+     * {@code first}, if there is one.
+     */
+    public Optional<LocalDate> firstOnOrAfter(LocalDate first, LocalDate from) {
+        if (!from.isAfter(first)) {
+            return Optional.of(first);
+        }
+        if (!isRecurring()) {
+            return Optional.empty();
+        }
+        // round the days since the first occurrence up to a whole number of periods
+        long periods = (ChronoUnit.DAYS.between(first, from) + periodDays() - 1) / periodDays();
+        LocalDate date = first.plusDays(periods * periodDays());
+        return date.isAfter(lastDate(first)) ? Optional.empty() : Optional.of(date);
+    }
+
+    /**
+     * Returns the occurrences of {@code first}, in order. They are created as the stream is consumed.
+     */
+    public Stream<TimeSlot> occurrences(TimeSlot first) {
+        requireNonNull(first);
+        if (!isRecurring()) {
+            return Stream.of(first);
+        }
+        LocalDate last = lastDate(first.getDate());
+        return Stream.iterate(first, slot -> !slot.getDate().isAfter(last), slot ->
+                new TimeSlot(slot.getDate().plusDays(periodDays()), slot.getStartTime(), slot.getEndTime()));
+    }
+
+    private long periodDays() {
+        return 7L * intervalWeeks;
+    }
+
+    @Override
+    public String toString() {
+        if (!isRecurring()) {
+            return "none";
+        }
+        return (intervalWeeks == 1 ? WEEKLY : BIWEEKLY).toLowerCase(Locale.ROOT) + " " + until;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Recurrence)) {
+            return false;
+        }
+
+        Recurrence otherRecurrence = (Recurrence) other;
+        return intervalWeeks == otherRecurrence.intervalWeeks && until.equals(otherRecurrence.until);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(intervalWeeks, until);
+    }
+}
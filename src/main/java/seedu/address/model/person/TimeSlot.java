@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -12,6 +13,9 @@ import java.time.format.DateTimeParseException;
 /**
  * Represents a Person's lesson time slot in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTimeSlot(String)}
+ *
+ * A time slot is also encoded in a single {@code long}, see {@link #encode()}, which comparisons, hashing and overlap
+ * checks use instead of the date and time objects.
  */
 public class TimeSlot implements Comparable<TimeSlot> {
 
@@ -23,10 +27,16 @@ public class TimeSlot implements Comparable<TimeSlot> {
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
 
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    /** Number of low bits of an encoded time slot that hold its duration, which is always less than a day. */
+    private static final int DURATION_BITS = 11;
+    private static final long DURATION_MASK = (1L << DURATION_BITS) - 1;
+
     public final LocalDate date;
     public final LocalTime startTime;
     public final LocalTime endTime;
     public final String value;
+    private final long encoded;
 
     /**
      * Constructs a {@code TimeSlot}.
@@ -44,6 +54,32 @@ public class TimeSlot implements Comparable<TimeSlot> {
         this.startTime = LocalTime.parse(times[0], TIME_FORMATTER);
         this.endTime = LocalTime.parse(times[1], TIME_FORMATTER);
         value = timeSlotString;
+        encoded = encode(date, startTime, endTime);
+    }
+
+    /**
+     * Constructs a {@code TimeSlot} on {@code date} from {@code startTime} to {@code endTime}.
+     * The times must satisfy the same constraints as in {@link #isValidTimeSlot(String)}.
+     */
+    public TimeSlot(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        requireAllNonNull(date, startTime, endTime);
+        checkArgument(isValidTimes(startTime, endTime), MESSAGE_CONSTRAINTS);
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        value = toString();
+        encoded = encode(date, startTime, endTime);
+    }
+
+    /**
+     * Returns the time slot that {@code encoded} was encoded from by {@link #encode()}.
+     */
+    public static TimeSlot decode(long encoded) {
+        long startEpochMinute = startEpochMinuteOf(encoded);
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(startEpochMinute, MINUTES_PER_DAY));
+        int startMinute = Math.floorMod(startEpochMinute, MINUTES_PER_DAY);
+        int endMinute = startMinute + (int) (encoded & DURATION_MASK);
+        return new TimeSlot(date, LocalTime.ofSecondOfDay(startMinute * 60L), LocalTime.ofSecondOfDay(endMinute * 60L));
     }
 
     /**
@@ -75,21 +111,58 @@ public class TimeSlot implements Comparable<TimeSlot> {
         try {
             LocalTime start = LocalTime.parse(times[0], TIME_FORMATTER);
             LocalTime end = LocalTime.parse(times[1], TIME_FORMATTER);
-
-            if (!start.isBefore(end)) {
-                return false;
-            }
-
-            Duration duration = Duration.between(start, end);
-            if (duration.toMinutes() < 30) {
-                return false;
-            }
-
+            return isValidTimes(start, end);
         } catch (DateTimeParseException e) {
             return false;
         }
+    }
+
+    private static boolean isValidTimes(LocalTime start, LocalTime end) {
+        return isWholeMinute(start) && isWholeMinute(end)
+                && start.isBefore(end) && Duration.between(start, end).toMinutes() >= 30;
+    }
+
+    private static boolean isWholeMinute(LocalTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0;
+    }
+
+    private static long encode(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        int startMinute = startTime.getHour() * 60 + startTime.getMinute();
+        int endMinute = endTime.getHour() * 60 + endTime.getMinute();
+        long startEpochMinute = date.toEpochDay() * MINUTES_PER_DAY + startMinute;
+        return (startEpochMinute << DURATION_BITS) | (endMinute - startMinute);
+    }
+
+    /**
+     * Returns this time slot encoded in a {@code long}: the minutes from 1970-01-01 00:00 to the start of the slot,
+     * shifted left by 11 bits, with the duration of the slot in minutes in the low 11 bits.
+     * Encoded time slots are ordered the same way as {@link #compareTo(TimeSlot)} orders time slots.
+     */
+    public long encode() {
+        return encoded;
+    }
+
+    /**
+     * Returns the minutes from 1970-01-01 00:00 to the start of the encoded time slot.
+     */
+    public static long startEpochMinuteOf(long encoded) {
+        return encoded >> DURATION_BITS;
+    }
 
-        return true;
+    /**
+     * Returns the minutes from 1970-01-01 00:00 to the end of the encoded time slot.
+     */
+    public static long endEpochMinuteOf(long encoded) {
+        return startEpochMinuteOf(encoded) + (encoded & DURATION_MASK);
+    }
+
+    /**
+     * Returns true if the encoded time slots overlap, in the same way as {@link #overlaps(TimeSlot)}.
+     * Time slots on different dates never overlap, as a time slot ends on the date that it starts.
+     */
+    public static boolean overlaps(long encoded, long otherEncoded) {
+        return startEpochMinuteOf(encoded) <= endEpochMinuteOf(otherEncoded)
+                && startEpochMinuteOf(otherEncoded) <= endEpochMinuteOf(encoded);
     }
 
     public LocalDate getDate() {
@@ -106,14 +179,12 @@ public class TimeSlot implements Comparable<TimeSlot> {
 
     /**
      * Checks for overlapping timeslots
+     * Timeslots on the same date that only touch, e.g. 0800-0900 and 0900-1000, also overlap.
      * @param other
      * @return
      */
     public boolean overlaps(TimeSlot other) {
-        if (!this.date.equals(other.date)) {
-            return false; // Different dates cannot overlap
-        }
-        return !(this.endTime.isBefore(other.startTime) || this.startTime.isAfter(other.endTime));
+        return overlaps(encoded, other.encoded);
     }
 
     @Override
@@ -133,28 +204,18 @@ public class TimeSlot implements Comparable<TimeSlot> {
         }
 
         TimeSlot otherSlot = (TimeSlot) other;
-        return date.equals(otherSlot.date)
-                && startTime.equals(otherSlot.startTime)
-                && endTime.equals(otherSlot.endTime);
+        return encoded == otherSlot.encoded;
     }
 
     @Override
     public int compareTo(TimeSlot other) {
-        if (!this.date.equals(other.date)) {
-            return this.date.compareTo(other.date);
-        }
-        if (!this.startTime.equals(other.startTime)) {
-            return this.startTime.compareTo(other.startTime);
-        }
-        return this.endTime.compareTo(other.endTime);
+        // ordered by date, then start time, then end time
+        return Long.compare(encoded, other.encoded);
     }
 
     @Override
     public int hashCode() {
-        int result = date.hashCode();
-        result = 31 * result + startTime.hashCode();
-        result = 31 * result + endTime.hashCode();
-        return result;
+        return Long.hashCode(encoded);
     }
 }
 
@@ -9,6 +9,8 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code TimeSlot} overlaps with the given time range.
+ * A recurring time slot matches if any of its occurrences does, which is worked out from its {@code Recurrence}
+ * without going through the occurrences.
  */
 public class TimeslotRangePredicate implements Predicate<Person> {
     private final Optional<LocalDate> startDate;
@@ -28,6 +30,22 @@ public class TimeslotRangePredicate implements Predicate<Person> {
         this.endTime = endTime;
     }
 
+    public Optional<LocalDate> getStartDate() {
+        return startDate;
+    }
+
+    public Optional<LocalDate> getEndDate() {
+        return endDate;
+    }
+
+    public Optional<LocalTime> getStartTime() {
+        return startTime;
+    }
+
+    public Optional<LocalTime> getEndTime() {
+        return endTime;
+    }
+
     @Override
     public boolean test(Person person) {
         if (person.getTimeSlot() == null) {
@@ -35,23 +53,36 @@ public class TimeslotRangePredicate implements Predicate<Person> {
         }
 
         TimeSlot personSlot = person.getTimeSlot();
-        LocalDate personDate = personSlot.getDate();
-        LocalTime personStart = personSlot.getStartTime();
-        LocalTime personEnd = personSlot.getEndTime();
-
-        // 1. Check Date Range
-        // Must be on or after startDate (if it exists)
-        boolean afterStartDate = startDate.map(start -> !personDate.isBefore(start)).orElse(true);
-        // Must be on or before endDate (if it exists)
-        boolean beforeEndDate = endDate.map(end -> !personDate.isAfter(end)).orElse(true);
+        return test(personSlot.getDate(), personSlot.getStartTime(), personSlot.getEndTime(),
+                person.getRecurrence());
+    }
 
-        // 2. Check Time Range
+    /**
+     * Returns true if a time slot first on {@code firstDate} from {@code personStart} to {@code personEnd}, which
+     * repeats by {@code recurrence}, has an occurrence that overlaps with the range.
+     */
+    public boolean test(LocalDate firstDate, LocalTime personStart, LocalTime personEnd, Recurrence recurrence) {
+        // 1. Check Time Range, which every occurrence shares
         // The person's slot must NOT end before the filter's start time
         boolean afterStartTime = startTime.map(start -> !personEnd.isBefore(start)).orElse(true);
         // The person's slot must NOT start after the filter's end time
         boolean beforeEndTime = endTime.map(end -> !personStart.isAfter(end)).orElse(true);
+        if (!afterStartTime || !beforeEndTime) {
+            return false;
+        }
 
-        return afterStartDate && beforeEndDate && afterStartTime && beforeEndTime;
+        // 2. Check Date Range
+        // The earliest occurrence on or after startDate (if it exists) must be on or before endDate (if it exists)
+        return matchingDate(firstDate, recurrence).isPresent();
+    }
+
+    /**
+     * Returns the date of the earliest occurrence in the date range of a time slot first on {@code firstDate} that
+     * repeats by {@code recurrence}, if there is one. Times are not checked.
+     */
+    public Optional<LocalDate> matchingDate(LocalDate firstDate, Recurrence recurrence) {
+        return recurrence.firstOnOrAfter(firstDate, startDate.orElse(firstDate))
+                .filter(date -> endDate.map(end -> !date.isAfter(end)).orElse(true));
     }
 
     @Override
@@ -1,6 +1,14 @@
 package seedu.address.model.person;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -8,12 +16,61 @@ import seedu.address.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code TimeSlot}'s date or start time matches
  * the specified keywords. If both date and time are provided, both must match.
+ *
+ * Keywords with a "-" are dates (e.g. "2025-10-12") and other keywords are start times (e.g. "0800" or "08:00").
+ * They are parsed once when the predicate is created, so testing a person only needs set lookups.
  */
 public class TimeslotStartTimeContainsKeywordsPredicate implements Predicate<Person> {
+    private static final DateTimeFormatter START_TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
+
     private final List<String> keywords;
+    private final Set<LocalDate> dates = new HashSet<>();
+    private final Set<LocalTime> startTimes = new HashSet<>();
+    private final boolean hasDateKeyword;
+    private final boolean hasTimeKeyword;
 
+    /**
+     * Constructs a predicate that matches the dates and start times in {@code keywords}.
+     * Keywords that are not valid dates or times are kept, but match nothing.
+     */
     public TimeslotStartTimeContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+
+        boolean hasDateKeyword = false;
+        boolean hasTimeKeyword = false;
+        for (String keyword : keywords) {
+            if (keyword.contains("-")) { // crude but effective check
+                hasDateKeyword = true;
+                parseDate(keyword).ifPresent(dates::add);
+            } else {
+                hasTimeKeyword = true;
+                parseStartTime(keyword.replace(":", "")).ifPresent(startTimes::add);
+            }
+        }
+        this.hasDateKeyword = hasDateKeyword;
+        this.hasTimeKeyword = hasTimeKeyword;
+    }
+
+    /**
+     * Returns the dates in the keywords.
+     */
+    public Set<LocalDate> getDates() {
+        return Collections.unmodifiableSet(dates);
+    }
+
+    /**
+     * Returns the start times in the keywords.
+     */
+    public Set<LocalTime> getStartTimes() {
+        return Collections.unmodifiableSet(startTimes);
+    }
+
+    /**
+     * Returns true if a person must match both a date and a start time, because the keywords have both.
+     * Otherwise, a person only needs to match one of them.
+     */
+    public boolean isDateAndTimeRequired() {
+        return hasDateKeyword && hasTimeKeyword;
     }
 
     @Override
@@ -22,29 +79,55 @@ public class TimeslotStartTimeContainsKeywordsPredicate implements Predicate<Per
             return false;
         }
 
-        String dateString = person.getTimeSlot().getDate().toString(); // e.g. "2025-10-12"
-        String startTimeString = person.getTimeSlot().getStartTime().toString(); // e.g. "08:00"
-        String normalizedStart = startTimeString.replace(":", ""); // e.g. "0800"
-
-        // Determine which keywords look like dates or times
-        boolean hasDateKeyword = keywords.stream().anyMatch(k -> k.contains("-")); // crude but effective check
-        boolean hasTimeKeyword = keywords.stream().anyMatch(k -> !k.contains("-"));
-
-        boolean dateMatch = keywords.stream().anyMatch(k -> dateString.equalsIgnoreCase(k));
-        boolean timeMatch = keywords.stream()
-                .map(k -> k.replace(":", ""))
-                .anyMatch(k -> normalizedStart.equalsIgnoreCase(k));
+        boolean dateMatch = isOnAnyDate(person.getTimeSlot().getDate(), person.getRecurrence());
+        boolean timeMatch = startTimes.contains(person.getTimeSlot().getStartTime());
 
         // Logic:
         // If both a date and a time keyword are present → require both to match
         // Otherwise → match if either matches
-        if (hasDateKeyword && hasTimeKeyword) {
+        if (isDateAndTimeRequired()) {
             return dateMatch && timeMatch;
         } else {
             return dateMatch || timeMatch;
         }
     }
 
+    /**
+     * Returns true if a time slot first on {@code firstDate} that repeats by {@code recurrence} occurs on any of the
+     * dates in the keywords.
+     */
+    private boolean isOnAnyDate(LocalDate firstDate, Recurrence recurrence) {
+        if (!recurrence.isRecurring()) {
+            return dates.contains(firstDate);
+        }
+        return dates.stream().anyMatch(date -> recurrence.occursOn(firstDate, date));
+    }
+
+    /**
+     * Returns the date that {@code keyword} is written as, e.g. "2025-10-12", if it is one.
+     */
+    private static Optional<LocalDate> parseDate(String keyword) {
+        try {
+            LocalDate date = LocalDate.parse(keyword);
+            // only keywords written the way the date is printed match it
+            return date.toString().equalsIgnoreCase(keyword) ? Optional.of(date) : Optional.empty();
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the time that {@code keyword} is written as, e.g. "0800", if it is one.
+     */
+    private static Optional<LocalTime> parseStartTime(String keyword) {
+        try {
+            LocalTime time = LocalTime.parse(keyword, START_TIME_FORMATTER);
+            return time.toString().replace(":", "").equalsIgnoreCase(keyword) ? Optional.of(time) : Optional.empty();
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
@@ -3,8 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +23,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are also indexed by {@code Name}, which is what {@code Person#isSamePerson(Person)} compares, so that
+ * identity checks do not need to scan the list, and by {@code TimeSlot} date and start time, so that persons in a
+ * date and time range or at a date or start time can be found without testing every person. The words of names
+ * and tags are indexed for the same reason.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +37,19 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    private final PersonDateIndex personsByDate = new PersonDateIndex();
+    private final PersonStartTimeIndex personsByStartTime = new PersonStartTimeIndex();
+    private final PersonTokenIndex personsByNameWord = PersonTokenIndex.ofNameWords();
+    private final PersonTokenIndex personsByTag = PersonTokenIndex.ofTagNames();
+    private long version;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -46,6 +62,26 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
+        addToIndexes(toAdd);
+        version++;
+    }
+
+    /**
+     * Adds {@code toAdd} to the list with a single change to the list.
+     * {@code toAdd} must not contain duplicate persons, or persons who already exist in the list.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Name, Person> addedByName = indexByName(toAdd);
+        if (addedByName.keySet().stream().anyMatch(personsByName::containsKey)) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.addAll(toAdd);
+        personsByName.putAll(addedByName);
+        toAdd.forEach(this::addToIndexes);
+        version++;
     }
 
     /**
@@ -66,6 +102,11 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+        removeFromIndexes(target);
+        addToIndexes(editedPerson);
+        version++;
     }
 
     /**
@@ -77,11 +118,18 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        personsByName.remove(toRemove.getName());
+        removeFromIndexes(toRemove);
+        version++;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        setIndexes();
+        version++;
     }
 
     /**
@@ -90,11 +138,72 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Person> replacementByName = indexByName(persons);
 
         internalList.setAll(persons);
+        personsByName.clear();
+        personsByName.putAll(replacementByName);
+        setIndexes();
+        version++;
+    }
+
+    /**
+     * Returns the persons in the list that match {@code predicate}, ordered by time slot.
+     * Only the persons on dates in the range of {@code predicate} are looked at.
+     */
+    public List<Person> getPersonsInRange(TimeslotRangePredicate predicate) {
+        requireNonNull(predicate);
+        return personsByDate.findInRange(predicate.getStartDate(), predicate.getEndDate(),
+                predicate.getStartTime(), predicate.getEndTime());
+    }
+
+    /**
+     * Returns the persons in the list that match {@code predicate}, by looking up its dates and start times.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithTimeslotStart(TimeslotStartTimeContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Person> dateMatches = Collections.newSetFromMap(new IdentityHashMap<>());
+        predicate.getDates().forEach(date -> dateMatches.addAll(personsByDate.getOn(date)));
+        Set<Person> timeMatches = Collections.newSetFromMap(new IdentityHashMap<>());
+        predicate.getStartTimes().forEach(time -> timeMatches.addAll(personsByStartTime.getStartingAt(time)));
+
+        if (predicate.isDateAndTimeRequired()) {
+            dateMatches.retainAll(timeMatches);
+        } else {
+            dateMatches.addAll(timeMatches);
+        }
+        return dateMatches;
+    }
+
+    /**
+     * Returns the persons in the list with a word in their name that contains any of {@code keywords}, ignoring case.
+     * The returned set compares persons by identity.
+     *
+     * @see NameContainsKeywordsPredicate
+     */
+    public Set<Person> getPersonsWithNameContaining(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return personsByNameWord.findContainingAny(keywords);
+    }
+
+    /**
+     * Returns the persons in the list with a tag that contains any of {@code keywords}, ignoring case.
+     * The returned set compares persons by identity.
+     *
+     * @see TagContainsKeywordsPredicate
+     */
+    public Set<Person> getPersonsWithTagContaining(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return personsByTag.findContainingAny(keywords);
+    }
+
+    /**
+     * Returns a counter that is incremented whenever the contents of this list are modified.
+     * Callers can compare it against an earlier value to tell whether the list has changed since.
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -134,17 +243,39 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void addToIndexes(Person person) {
+        personsByDate.add(person);
+        personsByStartTime.add(person);
+        personsByNameWord.add(person);
+        personsByTag.add(person);
+    }
+
+    private void removeFromIndexes(Person person) {
+        personsByDate.remove(person);
+        personsByStartTime.remove(person);
+        personsByNameWord.remove(person);
+        personsByTag.remove(person);
+    }
+
+    private void setIndexes() {
+        personsByDate.setAll(internalList);
+        personsByStartTime.setAll(internalList);
+        personsByNameWord.setAll(internalList);
+        personsByTag.setAll(internalList);
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns {@code persons} indexed by name.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains persons with the same identity.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Person> indexByName(List<Person> persons) {
+        Map<Name, Person> byName = new HashMap<>(Math.max(16, (int) (persons.size() / 0.75f) + 1));
+        for (Person person : persons) {
+            if (byName.putIfAbsent(person.getName(), person) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return byName;
     }
 }
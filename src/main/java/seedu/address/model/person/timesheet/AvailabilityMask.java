@@ -1,21 +1,25 @@
 package seedu.address.model.person.timesheet;
 
-import java.util.BitSet;
+import java.util.Arrays;
 
 /**
  * Represents a compact weekly availability grid using bits.
- * Each bit represents a fixed time interval (e.g. 15 minutes).
+ * Each bit represents a fixed time interval (e.g. 30 minutes).
  * 1 = available, 0 = unavailable.
  *
  * This mask is lightweight, memory efficient, and optimized for fast
- * availability operations (bit operation to find common availability
+ * availability operations: the bits are kept in 64-bit words (6 words for the 336 bins of a week), so combining
+ * masks and checking ranges work on a whole word at a time.
  * It is serialisable to/from a binary string, which makes it easy to store.
  */
 
 public final class AvailabilityMask {
 
-    private final BitSet bits; // bit 1 = available
-    private final int size; // total number of time slots (e.g. 672 for 15-minute bins)
+    private static final long ALL_SET = -1L;
+
+    // bit 1 = available; slot i is bit (i % 64) of words[i / 64], and bits past size are always 0
+    private final long[] words;
+    private final int size; // total number of time slots (e.g. 336 for 30-minute bins)
 
     /**
      * Creates an empty availability mask (all values default to false/unavailable).
@@ -24,7 +28,12 @@ public final class AvailabilityMask {
      */
     public AvailabilityMask(int size) {
         this.size = size;
-        this.bits = new BitSet(size);
+        this.words = new long[wordCount(size)];
+    }
+
+    private AvailabilityMask(int size, long[] words) {
+        this.size = size;
+        this.words = words;
     }
 
     /**
@@ -50,9 +59,9 @@ public final class AvailabilityMask {
     public void set(int index, boolean available) {
         check(index);
         if (available) {
-            bits.set(index);
+            words[index >>> 6] |= 1L << index;
         } else {
-            bits.clear(index);
+            words[index >>> 6] &= ~(1L << index);
         }
     }
 
@@ -64,13 +73,19 @@ public final class AvailabilityMask {
      * @param available true = available, false = unavailable
      */
     public void setRange(int fromInclusive, int toExclusive, boolean available) {
-        if (fromInclusive < 0 || toExclusive > size || fromInclusive > toExclusive) {
-            throw new IllegalArgumentException("Invalid range");
+        checkRange(fromInclusive, toExclusive);
+        if (fromInclusive == toExclusive) {
+            return;
         }
-        if (available) {
-            bits.set(fromInclusive, toExclusive);
-        } else {
-            bits.clear(fromInclusive, toExclusive);
+        int firstWord = fromInclusive >>> 6;
+        int lastWord = (toExclusive - 1) >>> 6;
+        for (int i = firstWord; i <= lastWord; i++) {
+            long rangeMask = wordMask(i, fromInclusive, toExclusive);
+            if (available) {
+                words[i] |= rangeMask;
+            } else {
+                words[i] &= ~rangeMask;
+            }
         }
     }
 
@@ -79,14 +94,193 @@ public final class AvailabilityMask {
      */
     public boolean get(int index) {
         check(index);
-        return bits.get(index);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns true if every slot in [fromInclusive, toExclusive) is available.
+     * An empty range is always available.
+     */
+    public boolean isAllSet(int fromInclusive, int toExclusive) {
+        checkRange(fromInclusive, toExclusive);
+        if (fromInclusive == toExclusive) {
+            return true;
+        }
+        int firstWord = fromInclusive >>> 6;
+        int lastWord = (toExclusive - 1) >>> 6;
+        for (int i = firstWord; i <= lastWord; i++) {
+            long rangeMask = wordMask(i, fromInclusive, toExclusive);
+            if ((words[i] & rangeMask) != rangeMask) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
      * @return number of available slots (bit count)
      */
     public int cardinality() {
-        return bits.cardinality();
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns a copy of this mask that can be changed independently.
+     */
+    public AvailabilityMask copy() {
+        return new AvailabilityMask(size, words.clone());
+    }
+
+    /**
+     * Keeps only the slots that are also available in {@code other}, a whole word of slots at a time.
+     *
+     * @throws IllegalArgumentException if the masks have different sizes.
+     */
+    public void and(AvailabilityMask other) {
+        checkSameSize(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= other.words[i];
+        }
+    }
+
+    /**
+     * Adds the slots that are available in {@code other}, a whole word of slots at a time.
+     *
+     * @throws IllegalArgumentException if the masks have different sizes.
+     */
+    public void or(AvailabilityMask other) {
+        checkSameSize(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    /**
+     * Removes the slots that are available in {@code other}, a whole word of slots at a time.
+     *
+     * @throws IllegalArgumentException if the masks have different sizes.
+     */
+    public void andNot(AvailabilityMask other) {
+        checkSameSize(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= ~other.words[i];
+        }
+    }
+
+    /**
+     * Returns the index of the first available slot at or after {@code fromIndex}, or -1 if there is none.
+     */
+    public int nextAvailable(int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IllegalArgumentException("Index out of range: " + fromIndex);
+        }
+        if (fromIndex >= size) {
+            return -1;
+        }
+        int i = fromIndex >>> 6;
+        long word = words[i] & (ALL_SET << fromIndex);
+        while (word == 0) {
+            if (++i == words.length) {
+                return -1;
+            }
+            word = words[i];
+        }
+        return i * Long.SIZE + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Returns the index of the first unavailable slot at or after {@code fromIndex}, or {@link #size()} if there is
+     * none.
+     */
+    public int nextUnavailable(int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IllegalArgumentException("Index out of range: " + fromIndex);
+        }
+        if (fromIndex >= size) {
+            return size;
+        }
+        int i = fromIndex >>> 6;
+        long word = ~words[i] & (ALL_SET << fromIndex);
+        while (word == 0) {
+            if (++i == words.length) {
+                return size;
+            }
+            word = ~words[i];
+        }
+        // the bits past size are never set, so they end the last run
+        return Math.min(i * Long.SIZE + Long.numberOfTrailingZeros(word), size);
+    }
+
+    /**
+     * Returns the index of the first of {@code length} consecutive available slots at or after {@code fromIndex},
+     * or -1 if there are none.
+     * Only the start and end of each run of available slots is looked at, a whole word of slots at a time.
+     */
+    public int findFirstRun(int length, int fromIndex) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("Run length must be positive: " + length);
+        }
+        int start = nextAvailable(fromIndex);
+        while (start >= 0 && start + length <= size) {
+            int end = nextUnavailable(start);
+            if (end - start >= length) {
+                return start;
+            }
+            start = nextAvailable(end);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the slots as words of 64 slots each, with slot {@code i} in bit {@code i % 64} of word {@code i / 64}.
+     * There are always enough words for {@link #size()} slots.
+     */
+    public long[] toLongArray() {
+        return words.clone();
+    }
+
+    /**
+     * Restores a mask of {@code size} slots from the words returned by {@link #toLongArray()}.
+     * Missing words at the end are unavailable.
+     *
+     * @throws IllegalArgumentException if {@code words} has slots beyond {@code size}.
+     */
+    public static AvailabilityMask fromLongArray(int size, long[] words) {
+        long[] maskWords = new long[wordCount(size)];
+        for (int i = 0; i < words.length; i++) {
+            long validBits = i < maskWords.length ? wordMask(i, 0, size) : 0;
+            if ((words[i] & ~validBits) != 0) {
+                throw new IllegalArgumentException("Mask has slots beyond its size: " + size);
+            }
+            if (i < maskWords.length) {
+                maskWords[i] = words[i];
+            }
+        }
+        return new AvailabilityMask(size, maskWords);
+    }
+
+    private static int wordCount(int size) {
+        return (size + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * Returns the bits of word {@code wordIndex} that are in [fromInclusive, toExclusive).
+     */
+    private static long wordMask(int wordIndex, int fromInclusive, int toExclusive) {
+        int wordStart = wordIndex * Long.SIZE;
+        if (toExclusive <= wordStart || fromInclusive >= wordStart + Long.SIZE) {
+            return 0;
+        }
+        long mask = fromInclusive > wordStart ? ALL_SET << fromInclusive : ALL_SET;
+        if (toExclusive < wordStart + Long.SIZE) {
+            // shifts are taken mod 64, so this keeps the bits below toExclusive in the word
+            mask &= ALL_SET >>> -toExclusive;
+        }
+        return mask;
     }
 
     /**
@@ -96,7 +290,7 @@ public final class AvailabilityMask {
     public String toBinaryString() {
         StringBuilder sb = new StringBuilder(size);
         for (int i = 0; i < size; i++) {
-            sb.append(bits.get(i) ? '1' : '0');
+            sb.append((words[i >>> 6] & (1L << i)) != 0 ? '1' : '0');
         }
         return sb.toString();
     }
@@ -109,12 +303,38 @@ public final class AvailabilityMask {
         AvailabilityMask m = new AvailabilityMask(s.length());
         for (int i = 0; i < s.length(); i++) {
             if (s.charAt(i) == '1') {
-                m.bits.set(i);
+                m.words[i >>> 6] |= 1L << i;
             }
         }
         return m;
     }
 
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AvailabilityMask)) {
+            return false;
+        }
+
+        AvailabilityMask otherMask = (AvailabilityMask) other;
+        return size == otherMask.size && Arrays.equals(words, otherMask.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * size + Arrays.hashCode(words);
+    }
+
+    private void checkSameSize(AvailabilityMask other) {
+        if (other.size != size) {
+            throw new IllegalArgumentException("Mask sizes differ: " + size + " and " + other.size);
+        }
+    }
+
     /**
      * Ensures index is within bounds.
      */
@@ -123,7 +343,13 @@ public final class AvailabilityMask {
             throw new IllegalArgumentException("Index out of range: " + index);
         }
     }
-}
-
-
 
+    /**
+     * Ensures [fromInclusive, toExclusive) is within bounds.
+     */
+    private void checkRange(int fromInclusive, int toExclusive) {
+        if (fromInclusive < 0 || toExclusive > size || fromInclusive > toExclusive) {
+            throw new IllegalArgumentException("Invalid range");
+        }
+    }
+}
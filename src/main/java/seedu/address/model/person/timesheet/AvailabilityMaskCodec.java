@@ -0,0 +1,154 @@
+package seedu.address.model.person.timesheet;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Encodes an {@link AvailabilityMask} as a short string for storage, and decodes it again.
+ *
+ * A mask is encoded in whichever of these is shorter, each starting with a prefix naming the encoding and its
+ * version, followed by the size of the mask:
+ * <ul>
+ *     <li>{@code R1:<size>:<runs>}: the lengths of the alternating runs of unavailable and available slots, starting
+ *     with an unavailable run that may be empty, in base 36 and separated by {@code .}. The last run is left out, as
+ *     it fills the rest of the mask. Typical weeks have a few long runs, so this is usually the shorter one.</li>
+ *     <li>{@code W1:<size>:<words>}: the words of {@link AvailabilityMask#toLongArray()} as unpadded base64 of their
+ *     little-endian bytes, which is at most 56 characters for a week.</li>
+ * </ul>
+ * Strings of only {@code 0}s and {@code 1}s are decoded as {@link AvailabilityMask#toBinaryString()}, which is how
+ * masks were stored before this codec.
+ */
+public final class AvailabilityMaskCodec {
+
+    public static final String RUNS_PREFIX = "R1:";
+    public static final String WORDS_PREFIX = "W1:";
+
+    private static final char RUN_SEPARATOR = '.';
+    private static final int RUN_RADIX = Character.MAX_RADIX;
+
+    private AvailabilityMaskCodec() {}
+
+    /**
+     * Returns the shorter encoding of {@code mask}.
+     */
+    public static String encode(AvailabilityMask mask) {
+        String runs = encodeRuns(mask);
+        String words = encodeWords(mask);
+        return runs.length() <= words.length() ? runs : words;
+    }
+
+    /**
+     * Returns {@code mask} encoded as the lengths of its runs.
+     */
+    static String encodeRuns(AvailabilityMask mask) {
+        StringBuilder sb = new StringBuilder(RUNS_PREFIX).append(mask.size()).append(':');
+        int position = 0;
+        boolean available = false;
+        while (true) {
+            int end = available ? mask.nextUnavailable(position) : mask.nextAvailable(position);
+            if (end < 0 || end >= mask.size()) {
+                // the last run is implied by the size
+                break;
+            }
+            if (position > 0 || available) {
+                sb.append(RUN_SEPARATOR);
+            }
+            sb.append(Integer.toString(end - position, RUN_RADIX));
+            position = end;
+            available = !available;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns {@code mask} encoded as its words.
+     */
+    static String encodeWords(AvailabilityMask mask) {
+        long[] words = mask.toLongArray();
+        ByteBuffer bytes = ByteBuffer.allocate(words.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.asLongBuffer().put(words);
+        byte[] usedBytes = new byte[byteCount(mask.size())];
+        bytes.get(usedBytes);
+        return WORDS_PREFIX + mask.size() + ':' + Base64.getEncoder().withoutPadding().encodeToString(usedBytes);
+    }
+
+    /**
+     * Returns the mask of {@code size} slots encoded in {@code encoded}, in any of the encodings of this class.
+     * The size stored in {@code encoded} is checked against {@code size} before the mask is created, so a corrupted
+     * size cannot make a mask larger than expected.
+     *
+     * @throws IllegalArgumentException if {@code encoded} is not a valid encoding of a mask of {@code size} slots.
+     */
+    public static AvailabilityMask decode(String encoded, int size) {
+        if (encoded.chars().allMatch(c -> c == '0' || c == '1')) {
+            checkSize(encoded.length(), size);
+            return AvailabilityMask.fromBinaryString(encoded);
+        }
+        boolean isRuns = encoded.startsWith(RUNS_PREFIX);
+        if (!isRuns && !encoded.startsWith(WORDS_PREFIX)) {
+            throw new IllegalArgumentException("Unknown availability encoding: " + encoded);
+        }
+        int sizeEnd = encoded.indexOf(':', RUNS_PREFIX.length());
+        if (sizeEnd < 0) {
+            throw new IllegalArgumentException("Missing availability size: " + encoded);
+        }
+        checkSize(parseNonNegative(encoded.substring(RUNS_PREFIX.length(), sizeEnd), 10), size);
+        String payload = encoded.substring(sizeEnd + 1);
+        return isRuns ? decodeRuns(size, payload) : decodeWords(size, payload);
+    }
+
+    private static void checkSize(int encodedSize, int size) {
+        if (encodedSize != size) {
+            throw new IllegalArgumentException("Availability size " + encodedSize + " is not " + size);
+        }
+    }
+
+    private static AvailabilityMask decodeRuns(int size, String runs) {
+        AvailabilityMask mask = new AvailabilityMask(size);
+        List<Integer> lengths = new ArrayList<>();
+        if (!runs.isEmpty()) {
+            for (String run : runs.split("\\" + RUN_SEPARATOR, -1)) {
+                lengths.add(parseNonNegative(run, RUN_RADIX));
+            }
+        }
+        int position = 0;
+        boolean available = false;
+        for (int length : lengths) {
+            if (length > size - position) {
+                throw new IllegalArgumentException("Availability runs are longer than its size: " + size);
+            }
+            mask.setRange(position, position + length, available);
+            position += length;
+            available = !available;
+        }
+        mask.setRange(position, size, available);
+        return mask;
+    }
+
+    private static AvailabilityMask decodeWords(int size, String words) {
+        byte[] bytes = Base64.getDecoder().decode(words);
+        if (bytes.length != byteCount(size)) {
+            throw new IllegalArgumentException("Availability words do not match its size: " + size);
+        }
+        long[] maskWords = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        ByteBuffer.wrap(Arrays.copyOf(bytes, maskWords.length * Long.BYTES)).order(ByteOrder.LITTLE_ENDIAN)
+                .asLongBuffer().get(maskWords);
+        return AvailabilityMask.fromLongArray(size, maskWords);
+    }
+
+    private static int byteCount(int size) {
+        return (size + Byte.SIZE - 1) / Byte.SIZE;
+    }
+
+    private static int parseNonNegative(String number, int radix) {
+        int value = Integer.parseInt(number, radix);
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative number in availability: " + number);
+        }
+        return value;
+    }
+}
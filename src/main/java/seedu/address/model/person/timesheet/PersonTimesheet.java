@@ -86,12 +86,7 @@ public final class PersonTimesheet {
     public boolean isAvailable(LocalDateTime start, LocalDateTime end) {
         int a = weekIndex.toIndex(start);
         int b = weekIndex.toIndex(end);
-        for (int i = a; i < b; i++) {
-            if (!mask.get(i)) {
-                return false;
-            }
-        }
-        return true;
+        return mask.isAllSet(a, b);
     }
 
     // ------------------------------------------------------------
@@ -119,15 +114,16 @@ public final class PersonTimesheet {
     // ------------------------------------------------------------
 
     /**
-     * Encodes this timesheet as a compact string "weekStart|binaryMask".
-     * Example: "2025-10-13|000011110000..."
+     * Encodes this timesheet as a compact string "weekStart|encodedMask", using {@link AvailabilityMaskCodec}.
+     * Example: "2025-10-13|R1:336:i.6"
      */
     public String toEncodedString() {
-        return weekIndex.getWeekStartMonday().toString() + "|" + mask.toBinaryString();
+        return weekIndex.getWeekStartMonday().toString() + "|" + AvailabilityMaskCodec.encode(mask);
     }
 
     /**
      * Decodes a compact encoded timesheet string back into a PersonTimesheet.
+     * Strings with the mask as a binary string, from before {@link AvailabilityMaskCodec}, can also be decoded.
      */
     public static PersonTimesheet fromEncodedString(String personId, String encoded) {
         String[] parts = encoded.split("\\|", 2);
@@ -135,8 +131,8 @@ public final class PersonTimesheet {
             throw new IllegalArgumentException("Invalid encoded timesheet: " + encoded);
         }
         LocalDate weekStart = LocalDate.parse(parts[0]);
-        String binary = parts[1];
-        return fromBinary(personId, weekStart, binary);
+        return new PersonTimesheet(personId, new WeekIndex(weekStart),
+                AvailabilityMaskCodec.decode(parts[1], WeekIndex.BINS_PER_WEEK));
     }
 }
 
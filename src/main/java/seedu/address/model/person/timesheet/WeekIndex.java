@@ -9,9 +9,10 @@ import java.util.Objects;
 /** Map Week Start time <-> bit slot[0, 672)，A week starts from Monday 0:00。*/
 public final class WeekIndex {
     public static final int MINUTES_PER_BIN = 30;
-    public static final int BINS_PER_DAY = (24 * 60) / MINUTES_PER_BIN; // 96
+    public static final int BINS_PER_DAY = (24 * 60) / MINUTES_PER_BIN; // 48
     public static final int DAYS_PER_WEEK = 7;
     public static final int BINS_PER_WEEK = BINS_PER_DAY * DAYS_PER_WEEK; // 336
+    public static final int MINUTES_PER_WEEK = BINS_PER_WEEK * MINUTES_PER_BIN;
 
     private final LocalDate weekStartMonday;
 
@@ -31,8 +32,7 @@ public final class WeekIndex {
     /** Time to the bit slot [0, 336). If time exceeds week limit of this WeekIndex, throw an error*/
     public int toIndex(LocalDateTime time) {
         long minutes = Duration.between(startOfWeek(), time).toMinutes();
-        long span = (long) BINS_PER_WEEK * MINUTES_PER_BIN;
-        if (minutes < 0 || minutes >= span) {
+        if (minutes < 0 || minutes >= MINUTES_PER_WEEK) {
             throw new IllegalArgumentException("Time outside this week grid: " + time);
         }
         return (int) (minutes / MINUTES_PER_BIN);
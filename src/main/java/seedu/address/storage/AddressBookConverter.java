@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book files between the json and binary formats.
+ */
+public class AddressBookConverter {
+
+    /**
+     * Saves the address book read from {@code source} to {@code target}.
+     *
+     * @return false if {@code source} has no address book to convert.
+     * @throws DataLoadingException if {@code source} could not be read.
+     * @throws IOException if {@code target} could not be written.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Rewrites the address book file at {@code filePath} in {@code format} if it is currently stored as json and
+     * {@code format} is binary, or the other way round. Json files with a journal are read together with it, and
+     * the journal is folded into the rewritten file if {@code format} does not keep one.
+     *
+     * @return true if the file was converted.
+     * @throws DataLoadingException if the file could not be read.
+     * @throws IOException if the converted file could not be written.
+     */
+    public static boolean convertToFormat(Path filePath, AddressBookFormat format)
+            throws DataLoadingException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(format);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+        boolean isBinary = BinaryAddressBookStorage.isBinaryFile(filePath);
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        // a journal left next to a file that is not read with it would silently drop its changes
+        boolean isJournalDropped = format != AddressBookFormat.JOURNAL && FileUtil.isFileExists(journalPath);
+        if (isBinary == (format == AddressBookFormat.BINARY) && !isJournalDropped) {
+            return false;
+        }
+
+        AddressBookStorage source = isBinary
+                ? new BinaryAddressBookStorage(filePath)
+                : new JournalAddressBookStorage(filePath);
+        boolean isConverted = convert(source, StorageManager.createAddressBookStorage(format, filePath));
+        if (isJournalDropped) {
+            Files.delete(journalPath);
+        }
+        return isConverted;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -42,4 +43,19 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Blocks until every save made so far has been written to the file.
+     * Storages that write before returning from a save have nothing to flush.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void flush() throws IOException {
+    }
+
+    /**
+     * Sets the handler that is told when a save fails after it has returned, on the thread that did the write.
+     * Storages that write before returning from a save throw from the save instead, and never call the handler.
+     */
+    default void setWriteFailureHandler(Consumer<IOException> handler) {
+    }
+
 }
@@ -0,0 +1,345 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Availability;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Recurrence;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.timesheet.AvailabilityMask;
+import seedu.address.model.person.timesheet.WeekIndex;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with {@link #MAGIC} and {@link #FORMAT_VERSION}, followed by a table of every distinct string in
+ * the address book, each stored once as a length-prefixed UTF-8 string. Persons then refer to their fields by index
+ * into that table, and store their time slot as an epoch day with start and end minutes of the day, followed by
+ * their weekly availability as {@link #AVAILABILITY_WORDS} longs of its mask, and the recurrence of their time slot as
+ * its interval in weeks in a byte and its until-date as an epoch day. The file ends with a CRC32 checksum of
+ * everything before it.
+ *
+ * The checksum is checked before anything else is decoded, and no count read from the file may be larger than the
+ * bytes left to hold what it counts, so a corrupted file is reported rather than allocating for a bogus count. Only
+ * files written by this class can pass the checksum, and every field was valid when it was written, so the fields are
+ * not validated again when loading.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** Marks a binary address book file, "AB3B" in ASCII. */
+    public static final int MAGIC = 0x41423342;
+    public static final short FORMAT_VERSION = 3;
+    /** The number of longs that the availability mask of a person is stored in. */
+    public static final int AVAILABILITY_WORDS = (WeekIndex.BINS_PER_WEEK + Long.SIZE - 1) / Long.SIZE;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Not a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book file is corrupted";
+
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES;
+    private static final int CHECKSUM_BYTES = Long.BYTES;
+    /** The fewest bytes that a person takes up, which is when the person has no tags. */
+    private static final int MIN_PERSON_BYTES = 4 * Integer.BYTES + Long.BYTES + 2 * Short.BYTES
+            + AVAILABILITY_WORDS * Long.BYTES + Byte.BYTES + Long.BYTES + Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if {@code file} starts like a file written by this class.
+     */
+    public static boolean isBinaryFile(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            return in.readInt() == MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(readAddressBook(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The previous contents of {@code filePath} are kept at {@link FileUtil#getBackupFilePath(Path)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.backUpFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> writeAddressBook(addressBook, out));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format.
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> stringIndices = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (Person person : persons) {
+            intern(person.getName().fullName, stringIndices, strings);
+            intern(person.getPhone().value, stringIndices, strings);
+            intern(person.getEmail().value, stringIndices, strings);
+            intern(person.getAddress().value, stringIndices, strings);
+            for (Tag tag : person.getTags()) {
+                intern(tag.tagName, stringIndices, strings);
+            }
+        }
+
+        CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream data = new DataOutputStream(checkedOut);
+        data.writeInt(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+
+        data.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+
+        data.writeInt(persons.size());
+        for (Person person : persons) {
+            data.writeInt(stringIndices.get(person.getName().fullName));
+            data.writeInt(stringIndices.get(person.getPhone().value));
+            data.writeInt(stringIndices.get(person.getEmail().value));
+            data.writeInt(stringIndices.get(person.getAddress().value));
+
+            TimeSlot timeSlot = person.getTimeSlot();
+            data.writeLong(timeSlot.getDate().toEpochDay());
+            data.writeShort(minuteOfDay(timeSlot.getStartTime()));
+            data.writeShort(minuteOfDay(timeSlot.getEndTime()));
+
+            for (long word : person.getAvailability().getMask().toLongArray()) {
+                data.writeLong(word);
+            }
+
+            Recurrence recurrence = person.getRecurrence();
+            data.writeByte(recurrence.getIntervalWeeks());
+            data.writeLong(recurrence.isRecurring() ? recurrence.getUntil().toEpochDay() : 0);
+
+            data.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                data.writeInt(stringIndices.get(tag.tagName));
+            }
+        }
+
+        data.flush();
+        data.writeLong(checkedOut.getChecksum().getValue());
+        data.flush();
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code in}.
+     *
+     * @throws IOException if {@code in} could not be read or is not a valid binary address book.
+     * @throws IllegalValueException if the address book contains duplicate persons.
+     */
+    static AddressBook readAddressBook(InputStream in) throws IOException, IllegalValueException {
+        byte[] bytes = in.readAllBytes();
+        if (bytes.length < HEADER_BYTES + CHECKSUM_BYTES) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        int contentLength = bytes.length - CHECKSUM_BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, contentLength);
+
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes, 0, contentLength));
+        if (data.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY_FILE);
+        }
+        short version = data.readShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (ByteBuffer.wrap(bytes, contentLength, CHECKSUM_BYTES).getLong() != checksum.getValue()) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+
+        String[] strings = new String[readCount(data, Integer.BYTES)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] utf8 = new byte[readCount(data, Byte.BYTES)];
+            data.readFully(utf8);
+            strings[i] = new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        // Fields that are shared between persons are also shared in the model.
+        Address[] addresses = new Address[strings.length];
+        Tag[] tags = new Tag[strings.length];
+
+        int personCount = readCount(data, MIN_PERSON_BYTES);
+        List<Person> persons = new ArrayList<>(personCount);
+        try {
+            for (int i = 0; i < personCount; i++) {
+                Name name = Name.fromTrusted(strings[readIndex(data, strings)]);
+                Phone phone = Phone.fromTrusted(strings[readIndex(data, strings)]);
+                Email email = Email.fromTrusted(strings[readIndex(data, strings)]);
+                int addressIndex = readIndex(data, strings);
+                if (addresses[addressIndex] == null) {
+                    addresses[addressIndex] = Address.fromTrusted(strings[addressIndex]);
+                }
+
+                LocalDate date = LocalDate.ofEpochDay(data.readLong());
+                LocalTime startTime = LocalTime.ofSecondOfDay(data.readShort() * 60L);
+                LocalTime endTime = LocalTime.ofSecondOfDay(data.readShort() * 60L);
+                TimeSlot timeSlot = new TimeSlot(date, startTime, endTime);
+
+                long[] words = new long[AVAILABILITY_WORDS];
+                for (int j = 0; j < words.length; j++) {
+                    words[j] = data.readLong();
+                }
+                Availability availability =
+                        new Availability(AvailabilityMask.fromLongArray(WeekIndex.BINS_PER_WEEK, words));
+
+                int intervalWeeks = data.readByte();
+                LocalDate until = LocalDate.ofEpochDay(data.readLong());
+                Recurrence recurrence = intervalWeeks == 0 ? Recurrence.NONE : new Recurrence(intervalWeeks, until);
+
+                int tagCount = readCount(data, Integer.BYTES);
+                Set<Tag> personTags = new HashSet<>();
+                for (int j = 0; j < tagCount; j++) {
+                    int tagIndex = readIndex(data, strings);
+                    if (tags[tagIndex] == null) {
+                        tags[tagIndex] = Tag.fromTrusted(strings[tagIndex]);
+                    }
+                    personTags.add(tags[tagIndex]);
+                }
+
+                persons.add(new Person(name, phone, email, addresses[addressIndex], timeSlot, recurrence,
+                        availability, personTags));
+            }
+        } catch (DateTimeException | IllegalArgumentException e) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE, e);
+        }
+
+        if (data.available() != 0) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, e);
+        }
+        return addressBook;
+    }
+
+    private static void intern(String string, Map<String, Integer> stringIndices, List<String> strings) {
+        if (!stringIndices.containsKey(string)) {
+            stringIndices.put(string, strings.size());
+            strings.add(string);
+        }
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Reads a count of items that each take up at least {@code minItemBytes} of what is left in {@code data}, which
+     * must read from a byte array so that it knows exactly how much is left.
+     *
+     * @throws IOException if the count is negative or more items than could fit in what is left.
+     */
+    private static int readCount(DataInputStream data, int minItemBytes) throws IOException {
+        int count = data.readInt();
+        if (count < 0 || count > data.available() / minItemBytes) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+    private static int readIndex(DataInputStream data, String[] strings) throws IOException {
+        int index = data.readInt();
+        if (index < 0 || index >= strings.length) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return index;
+    }
+}
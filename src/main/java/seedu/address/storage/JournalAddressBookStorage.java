@@ -0,0 +1,300 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of changes.
+ * A save only appends records for the persons that changed since the previous save, so its cost depends on
+ * the size of the change rather than the size of the address book. Once the journal holds more than
+ * {@link #COMPACTION_THRESHOLD} records, it is folded into a fresh snapshot.
+ *
+ * The snapshot uses the same format as {@link JsonAddressBookStorage}. The journal is kept next to it, one
+ * compact json record per line, and starts with the checksum of the snapshot it applies to so that a journal
+ * left behind by an interrupted compaction is never replayed onto the newer snapshot.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** Number of journal records after which the next save writes a fresh snapshot instead. */
+    public static final int COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+
+    /** Persons as of the last read or save of {@code filePath}, or null if they are not known. */
+    private List<Person> lastSavedPersons;
+    private int journalRecordCount;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        int replayedRecords;
+        AddressBook addressBook = new AddressBook();
+        try {
+            replayedRecords = replayJournal(filePath, persons);
+            addressBook.setPersons(persons);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error replaying journal of " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, e));
+        }
+
+        if (filePath.equals(this.filePath)) {
+            lastSavedPersons = persons;
+            journalRecordCount = replayedRecords;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to the journal when {@code filePath} is this storage's own file path and the previous
+     * contents are known; a full snapshot is written otherwise.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = lastSavedPersons == null
+                ? null
+                : diff(lastSavedPersons, persons, COMPACTION_THRESHOLD - journalRecordCount);
+        if (records == null) {
+            writeSnapshot(addressBook, filePath);
+            journalRecordCount = 0;
+        } else if (!records.isEmpty()) {
+            appendToJournal(filePath, records);
+            journalRecordCount += records.size();
+        }
+        lastSavedPersons = persons;
+    }
+
+    /**
+     * Returns the records that turn {@code before} into {@code after}, or null if more than {@code maxRecords}
+     * records would be needed.
+     * Persons are immutable, so unchanged persons are recognised by reference. Only the range between the
+     * longest unchanged prefix and suffix is recorded, which for a single add, edit or delete is one record.
+     */
+    static List<JsonAdaptedJournalRecord> diff(List<Person> before, List<Person> after, int maxRecords) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (after.isEmpty() && !before.isEmpty()) {
+            if (maxRecords < 1) {
+                return null;
+            }
+            records.add(JsonAdaptedJournalRecord.clear());
+            return records;
+        }
+
+        int commonLength = Math.min(before.size(), after.size());
+        int prefix = 0;
+        while (prefix < commonLength && before.get(prefix) == after.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < commonLength - prefix
+                && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+            suffix++;
+        }
+
+        int removed = before.size() - prefix - suffix;
+        int added = after.size() - prefix - suffix;
+        int edited = Math.min(removed, added);
+        int recordCount = edited + (removed > edited ? 1 : 0) + (added - edited);
+        if (recordCount > maxRecords) {
+            return null;
+        }
+        for (int i = 0; i < edited; i++) {
+            records.add(JsonAdaptedJournalRecord.edit(prefix + i, after.get(prefix + i)));
+        }
+        if (removed > edited) {
+            records.add(JsonAdaptedJournalRecord.delete(prefix + edited, removed - edited));
+        }
+        for (int i = edited; i < added; i++) {
+            records.add(JsonAdaptedJournalRecord.add(prefix + i, after.get(prefix + i)));
+        }
+        return records;
+    }
+
+    /**
+     * Writes {@code addressBook} as the snapshot at {@code snapshotPath} and starts an empty journal for it.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path snapshotPath) throws IOException {
+        logger.fine("Compacting address book journal into snapshot " + snapshotPath);
+        snapshotStorage.saveAddressBook(addressBook, snapshotPath);
+        JsonAdaptedJournalRecord header = JsonAdaptedJournalRecord.snapshot(checksumOf(snapshotPath));
+        byte[] headerLine = (JsonUtil.toCompactJsonString(header) + "\n").getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFileAtomically(getJournalFilePath(snapshotPath), out -> out.write(headerLine));
+    }
+
+    /**
+     * Appends {@code records} to the journal of the snapshot at {@code snapshotPath}, and forces them to the disk
+     * before returning, so that a save that has returned is not lost on a power failure.
+     */
+    private void appendToJournal(Path snapshotPath, List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(snapshotPath),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Applies the journal of the snapshot at {@code snapshotPath} to {@code persons}.
+     * A journal that is missing or belongs to a different snapshot is ignored. An incomplete last line,
+     * as left by a crash in the middle of an append, is skipped.
+     *
+     * @return the number of records applied.
+     */
+    private int replayJournal(Path snapshotPath, List<Person> persons) throws IOException, IllegalValueException {
+        Path journalPath = getJournalFilePath(snapshotPath);
+        if (!FileUtil.isFileExists(journalPath)) {
+            return 0;
+        }
+
+        List<String> lines;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            lines = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        if (lines.isEmpty()) {
+            return 0;
+        }
+
+        JsonAdaptedJournalRecord header = JsonUtil.fromJsonString(lines.get(0), JsonAdaptedJournalRecord.class);
+        if (!header.isSnapshot() || header.getChecksum() == null
+                || header.getChecksum() != checksumOf(snapshotPath)) {
+            logger.warning("Ignoring journal " + journalPath + " as it does not match snapshot " + snapshotPath);
+            return 0;
+        }
+
+        boolean isLastLineComplete = endsWithNewline(journalPath);
+        int applied = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1 && !isLastLineComplete) {
+                    logger.warning("Skipping incomplete last record of journal " + journalPath);
+                    break;
+                }
+                throw e;
+            }
+            record.applyTo(persons);
+            applied++;
+        }
+        return applied;
+    }
+
+    private static boolean endsWithNewline(Path file) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            if (channel.size() == 0) {
+                return true;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.position(channel.size() - 1).read(last);
+            return last.get(0) == '\n';
+        }
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change recorded in the address book journal.
+ * A journal starts with a {@code snapshot} record identifying the snapshot it applies to, followed by
+ * {@code add}, {@code edit}, {@code delete} and {@code clear} records that are replayed in order.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String OP_SNAPSHOT = "snapshot";
+    public static final String OP_ADD = "add";
+    public static final String OP_EDIT = "edit";
+    public static final String OP_DELETE = "delete";
+    public static final String OP_CLEAR = "clear";
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    private final String op;
+    private final Integer index;
+    private final Integer count;
+    private final Long checksum;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("index") Integer index,
+            @JsonProperty("count") Integer count, @JsonProperty("checksum") Long checksum,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.index = index;
+        this.count = count;
+        this.checksum = checksum;
+        this.person = person;
+    }
+
+    /**
+     * Returns the record that starts a journal for the snapshot with the given {@code checksum}.
+     */
+    public static JsonAdaptedJournalRecord snapshot(long checksum) {
+        return new JsonAdaptedJournalRecord(OP_SNAPSHOT, null, null, checksum, null);
+    }
+
+    /**
+     * Returns a record that inserts {@code person} at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord add(int index, Person person) {
+        return new JsonAdaptedJournalRecord(OP_ADD, index, null, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record that replaces the person at {@code index} with {@code person}.
+     */
+    public static JsonAdaptedJournalRecord edit(int index, Person person) {
+        return new JsonAdaptedJournalRecord(OP_EDIT, index, null, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record that removes {@code count} persons starting from {@code index}.
+     */
+    public static JsonAdaptedJournalRecord delete(int index, int count) {
+        return new JsonAdaptedJournalRecord(OP_DELETE, index, count, null, null);
+    }
+
+    /**
+     * Returns a record that removes all persons.
+     */
+    public static JsonAdaptedJournalRecord clear() {
+        return new JsonAdaptedJournalRecord(OP_CLEAR, null, null, null, null);
+    }
+
+    public boolean isSnapshot() {
+        return OP_SNAPSHOT.equals(op);
+    }
+
+    public Long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Applies this record to {@code persons}.
+     *
+     * @throws IllegalValueException if the record is malformed or does not fit {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing op"));
+        }
+
+        switch (op) {
+        case OP_ADD:
+            requireIndex(persons.size());
+            persons.add(index, toModelPerson());
+            break;
+        case OP_EDIT:
+            requireIndex(persons.size() - 1);
+            persons.set(index, toModelPerson());
+            break;
+        case OP_DELETE:
+            requireIndex(persons.size() - 1);
+            if (count == null || count < 1 || index + count > persons.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "bad count " + count));
+            }
+            persons.subList(index, index + count).clear();
+            break;
+        case OP_CLEAR:
+            persons.clear();
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "unknown op " + op));
+        }
+    }
+
+    private void requireIndex(int maxIndex) throws IllegalValueException {
+        if (index == null || index < 0 || index > maxIndex) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "bad index " + index));
+        }
+    }
+
+    private Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing person"));
+        }
+        return person.toModelType();
+    }
+}
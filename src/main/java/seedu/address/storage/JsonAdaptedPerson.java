@@ -7,15 +7,20 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.Availability;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.person.TimeSlot;
+import seedu.address.model.person.timesheet.AvailabilityMaskCodec;
+import seedu.address.model.person.timesheet.WeekIndex;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -30,6 +35,10 @@ class JsonAdaptedPerson {
     private final String email;
     private final String address;
     private final String timeSlot;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String recurrence;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String availability;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
 
     /**
@@ -39,12 +48,16 @@ class JsonAdaptedPerson {
     public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("address") String address,
                              @JsonProperty("timeslot") String timeSlot,
+                             @JsonProperty("recurrence") String recurrence,
+                             @JsonProperty("availability") String availability,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags) {
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.timeSlot = timeSlot;
+        this.recurrence = recurrence;
+        this.availability = availability;
         if (tags != null) {
             this.tags.addAll(tags);
         }
@@ -59,6 +72,12 @@ class JsonAdaptedPerson {
         email = source.getEmail().value;
         address = source.getAddress().value;
         timeSlot = source.getTimeSlot().value;
+        // time slots that do not repeat are saved as before recurrences were added
+        recurrence = source.getRecurrence().isRecurring() ? source.getRecurrence().toString() : null;
+        // persons without any free time are saved as before availabilities were added
+        availability = source.getAvailability().isEmpty()
+                ? null
+                : AvailabilityMaskCodec.encode(source.getAvailability().getMask());
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -122,8 +141,31 @@ class JsonAdaptedPerson {
         }
         //final TimeSlot modelTimeSlot = new TimeSlot(timeSlot);
 
+        if (recurrence != null && !Recurrence.isValidRecurrence(recurrence)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        final Recurrence modelRecurrence = recurrence == null ? Recurrence.NONE : new Recurrence(recurrence);
+        if (!modelRecurrence.isValidFrom(modelTimeSlot.getDate())) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+
+        final Availability modelAvailability = availability == null ? Availability.NONE : toAvailability(availability);
+
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTimeSlot, modelTags);
+        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTimeSlot, modelRecurrence,
+                modelAvailability, modelTags);
+    }
+
+    /**
+     * Decodes {@code encoded}, which may also be a binary string from before {@link AvailabilityMaskCodec}, as the
+     * availability of a week.
+     */
+    private static Availability toAvailability(String encoded) throws IllegalValueException {
+        try {
+            return new Availability(AvailabilityMaskCodec.decode(encoded, WeekIndex.BINS_PER_WEEK));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Availability.MESSAGE_CONSTRAINTS);
+        }
     }
 
 }
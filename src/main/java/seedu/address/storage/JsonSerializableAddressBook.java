@@ -1,25 +1,51 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * Address books can also be written and read as a stream with {@link #writeAddressBook} and
+ * {@link #readAddressBook}, which hold at most {@link #PARALLEL_THRESHOLD} {@code JsonAdaptedPerson}s in memory.
+ *
+ * Persons are converted to the model in parallel once there are at least {@link #PARALLEL_THRESHOLD} of them.
+ * The resulting order, and the error reported for invalid or duplicate persons, is the same as when converting
+ * one person at a time: the first error in list order is reported, with the index of the person in the list.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON_AT =
+            MESSAGE_DUPLICATE_PERSON + " Person at index %1$d is a duplicate of the person at index %2$d.";
+    public static final String MESSAGE_INVALID_PERSON_AT = "Person at index %1$d is invalid: %2$s";
+
+    /** Number of persons from which conversion to the model is done in parallel. */
+    static final int PARALLEL_THRESHOLD = 2048;
+
+    private static final String PERSONS_FIELD = "persons";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -46,15 +72,114 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        ModelConverter converter = new ModelConverter();
+        converter.addAll(persons);
+        return converter.toAddressBook();
+    }
+
+    /**
+     * Writes {@code source} to {@code out} in the same format as this class, converting one person at a time.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook source, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : source.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads an address book in the format of this class from {@code in}, converting one person at a time.
+     *
+     * @throws IOException if {@code in} could not be read or is not an address book in JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readAddressBook(InputStream in) throws IOException, IllegalValueException {
+        ModelConverter converter = new ModelConverter();
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!PERSONS_FIELD.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array of persons");
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                    if (batch.size() == PARALLEL_THRESHOLD) {
+                        converter.addAll(batch);
+                        batch.clear();
+                    }
+                }
+                if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                    throw new JsonParseException(parser, "Expected a person object");
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Expected the end of the address book object");
             }
-            addressBook.addPerson(person);
         }
-        return addressBook;
+        converter.addAll(batch);
+        return converter.toAddressBook();
     }
 
+    /**
+     * Converts {@code JsonAdaptedPerson}s to model persons, checking for duplicates across everything it converts.
+     */
+    private static class ModelConverter {
+        private final List<Person> modelPersons = new ArrayList<>();
+        private final Map<Name, Integer> indexByName = new HashMap<>();
+
+        /**
+         * Converts {@code adaptedPersons}, which come right after the persons converted so far.
+         *
+         * @throws IllegalValueException for the first invalid or duplicate person in {@code adaptedPersons}.
+         */
+        void addAll(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+            int count = adaptedPersons.size();
+            Person[] converted = new Person[count];
+            IllegalValueException[] errors = new IllegalValueException[count];
+            IntStream indices = IntStream.range(0, count);
+            if (count >= PARALLEL_THRESHOLD) {
+                indices = indices.parallel();
+            }
+            indices.forEach(i -> {
+                try {
+                    converted[i] = adaptedPersons.get(i).toModelType();
+                } catch (IllegalValueException e) {
+                    errors[i] = e;
+                }
+            });
+
+            for (int i = 0; i < count; i++) {
+                int index = modelPersons.size();
+                if (errors[i] != null) {
+                    throw new IllegalValueException(
+                            String.format(MESSAGE_INVALID_PERSON_AT, index, errors[i].getMessage()), errors[i]);
+                }
+                Integer existingIndex = indexByName.putIfAbsent(converted[i].getName(), index);
+                if (existingIndex != null) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON_AT, index, existingIndex));
+                }
+                modelPersons.add(converted[i]);
+            }
+        }
+
+        AddressBook toAddressBook() {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(modelPersons);
+            return addressBook;
+        }
+    }
 }
@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.person.Recurrence;
+import seedu.address.model.person.TimeSlot;
+
+/**
+ * Indexes recurring {@code TimeSlot}s by the rule they repeat by, so that their occurrences are never stored.
+ * Rules are grouped by the day of the week that they occur on, and a slot is checked against a rule by working out
+ * from the rule whether it occurs on the date of the slot.
+ *
+ * Overlap follows {@link TimeSlot#overlaps(TimeSlot)}, i.e. slots that merely touch are also conflicting.
+ */
+public class RecurringSlotIndex {
+
+    private final Map<DayOfWeek, List<Rule>> rulesByDay = new EnumMap<>(DayOfWeek.class);
+    private int size;
+
+    /**
+     * Adds the rule that {@code first} repeats by {@code recurrence}, regardless of whether it conflicts with
+     * existing rules.
+     */
+    public void add(TimeSlot first, Recurrence recurrence) {
+        requireNonNull(first);
+        requireNonNull(recurrence);
+        rulesByDay.computeIfAbsent(first.getDate().getDayOfWeek(), day -> new ArrayList<>())
+                .add(new Rule(first, recurrence));
+        size++;
+    }
+
+    /**
+     * Removes one rule that {@code first} repeats by {@code recurrence}.
+     *
+     * @return true if there was such a rule in the index.
+     */
+    public boolean remove(TimeSlot first, Recurrence recurrence) {
+        requireNonNull(first);
+        requireNonNull(recurrence);
+        Iterator<Rule> rules = rulesOn(first.getDate().getDayOfWeek()).iterator();
+        while (rules.hasNext()) {
+            Rule rule = rules.next();
+            if (rule.first.equals(first) && rule.recurrence.equals(recurrence)) {
+                rules.remove();
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the occurrence of an existing rule that overlaps with {@code slot}, or {@code Optional.empty()} if
+     * there is none.
+     */
+    public Optional<TimeSlot> findConflict(TimeSlot slot) {
+        requireNonNull(slot);
+        for (Rule rule : rulesOn(slot.getDate().getDayOfWeek())) {
+            if (rule.overlapsTimes(slot) && rule.recurrence.occursOn(rule.first.getDate(), slot.getDate())) {
+                return Optional.of(rule.on(slot.getDate()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns an occurrence of an existing rule that overlaps with an occurrence of {@code first} repeated by
+     * {@code recurrence}, or {@code Optional.empty()} if there is none.
+     *
+     * Two rules on the same day of the week with overlapping times repeat the same pattern of dates every
+     * {@code lcm} of their intervals, so only the occurrences in the first such period that both rules span need to
+     * be checked, rather than every occurrence.
+     */
+    public Optional<TimeSlot> findConflict(TimeSlot first, Recurrence recurrence) {
+        requireNonNull(first);
+        requireNonNull(recurrence);
+        if (!recurrence.isRecurring()) {
+            return findConflict(first);
+        }
+        LocalDate last = recurrence.lastDate(first.getDate());
+        for (Rule rule : rulesOn(first.getDate().getDayOfWeek())) {
+            if (!rule.overlapsTimes(first)) {
+                continue;
+            }
+            LocalDate from = max(first.getDate(), rule.first.getDate());
+            LocalDate to = min(last, rule.last);
+            LocalDate periodEnd = from.plusWeeks(lcm(recurrence.getIntervalWeeks(), rule.intervalWeeks()));
+            Optional<LocalDate> date = recurrence.firstOnOrAfter(first.getDate(), from);
+            while (date.isPresent() && !date.get().isAfter(to) && date.get().isBefore(periodEnd)) {
+                if (rule.recurrence.occursOn(rule.first.getDate(), date.get())) {
+                    return Optional.of(rule.on(date.get()));
+                }
+                date = recurrence.firstOnOrAfter(first.getDate(), date.get().plusDays(1));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Removes all rules from the index.
+     */
+    public void clear() {
+        rulesByDay.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the number of rules in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    private List<Rule> rulesOn(DayOfWeek day) {
+        return rulesByDay.getOrDefault(day, List.of());
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static int lcm(int a, int b) {
+        int gcd = a;
+        for (int r = b; r != 0;) {
+            int t = gcd % r;
+            gcd = r;
+            r = t;
+        }
+        return a / gcd * b;
+    }
+
+    /**
+     * A time slot that repeats, with its times of day in minutes kept for overlap checks.
+     */
+    private static class Rule {
+        private final TimeSlot first;
+        private final Recurrence recurrence;
+        private final LocalDate last;
+        private final int startMinute;
+        private final int endMinute;
+
+        Rule(TimeSlot first, Recurrence recurrence) {
+            this.first = first;
+            this.recurrence = recurrence;
+            this.last = recurrence.lastDate(first.getDate());
+            this.startMinute = minuteOfDay(first.getStartTime().toSecondOfDay());
+            this.endMinute = minuteOfDay(first.getEndTime().toSecondOfDay());
+        }
+
+        int intervalWeeks() {
+            // a rule that does not repeat occurs once, which is also every week up to its last date
+            return Math.max(recurrence.getIntervalWeeks(), 1);
+        }
+
+        boolean overlapsTimes(TimeSlot slot) {
+            return startMinute <= minuteOfDay(slot.getEndTime().toSecondOfDay())
+                    && minuteOfDay(slot.getStartTime().toSecondOfDay()) <= endMinute;
+        }
+
+        TimeSlot on(LocalDate date) {
+            return new TimeSlot(date, first.getStartTime(), first.getEndTime());
+        }
+
+        private static int minuteOfDay(int secondOfDay) {
+            return secondOfDay / 60;
+        }
+    }
+}
@@ -3,14 +3,16 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.person.TimeSlot;
 
 /**
@@ -19,7 +21,8 @@ import seedu.address.model.person.TimeSlot;
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private final TreeSet<TimeSlot> timeSlots = new TreeSet<>();
+    private final TimeSlotIndex timeSlots = new TimeSlotIndex();
+    private final RecurringSlotIndex recurringSlots = new RecurringSlotIndex();
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
@@ -31,6 +34,20 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} for the file at {@code filePath} in the given {@code format}.
+     */
+    public static AddressBookStorage createAddressBookStorage(AddressBookFormat format, Path filePath) {
+        switch (format) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(filePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        default:
+            return new JsonAddressBookStorage(filePath);
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -78,20 +95,70 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flush() throws IOException {
+        addressBookStorage.flush();
+    }
+
+    @Override
+    public void setWriteFailureHandler(Consumer<IOException> handler) {
+        addressBookStorage.setWriteFailureHandler(handler);
+    }
+
     @Override
     public boolean addSlot(TimeSlot slot) {
-        for (TimeSlot existing : timeSlots) {
-            if (existing.overlaps(slot)) {
-                return false;
-            }
+        return addSlot(slot, Recurrence.NONE);
+    }
+
+    @Override
+    public boolean addSlot(TimeSlot slot, Recurrence recurrence) {
+        if (findConflict(slot, recurrence).isPresent()) {
+            return false;
         }
-        timeSlots.add(slot);
+        indexSlot(slot, recurrence);
         return true;
     }
 
+    @Override
+    public void indexSlot(TimeSlot slot, Recurrence recurrence) {
+        if (recurrence.isRecurring()) {
+            recurringSlots.add(slot, recurrence);
+        } else {
+            timeSlots.add(slot);
+        }
+    }
+
+    @Override
+    public void removeSlot(TimeSlot slot, Recurrence recurrence) {
+        if (recurrence.isRecurring()) {
+            recurringSlots.remove(slot, recurrence);
+        } else {
+            timeSlots.remove(slot);
+        }
+    }
+
+    @Override
+    public Optional<TimeSlot> findConflict(TimeSlot slot) {
+        return findConflict(slot, Recurrence.NONE);
+    }
+
+    @Override
+    public Optional<TimeSlot> findConflict(TimeSlot slot, Recurrence recurrence) {
+        Optional<TimeSlot> recurringConflict = recurringSlots.findConflict(slot, recurrence);
+        if (recurringConflict.isPresent()) {
+            return recurringConflict;
+        }
+        // occurrences are only created until one of them conflicts with a one-off slot
+        return recurrence.occurrences(slot)
+                .map(timeSlots::findConflict)
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
     @Override
     public void loadExistingSlots(ReadOnlyAddressBook addressBook) {
         timeSlots.clear();
-        addressBook.getPersonList().forEach(person -> timeSlots.add(person.getTimeSlot()));
+        recurringSlots.clear();
+        addressBook.getPersonList().forEach(person -> indexSlot(person.getTimeSlot(), person.getRecurrence()));
     }
 }
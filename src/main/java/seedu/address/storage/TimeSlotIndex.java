@@ -0,0 +1,269 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.model.person.TimeSlot;
+
+/**
+ * Indexes {@code TimeSlot}s so that conflicts can be found without scanning every stored slot.
+ * Slots are kept in an interval tree ordered by start time, where every node also records the latest end time
+ * found in its subtree. Insertion, removal and conflict lookup all take O(log n) time. A slot that is added more than
+ * once, such as one shared by several persons, is kept once with a count, and stays until it is removed as often.
+ *
+ * Times are compared as minutes since the epoch, taken from {@link TimeSlot#encode()}, so slots of all dates share
+ * one tree and lookups do not compare any date or time objects.
+ *
+ * Overlap follows {@link TimeSlot#overlaps(TimeSlot)}, i.e. slots that merely touch are also conflicting.
+ */
+public class TimeSlotIndex {
+
+    private final IntervalTree slots = new IntervalTree();
+    private int size;
+
+    /**
+     * Adds {@code slot} to the index, regardless of whether it conflicts with existing slots.
+     *
+     * @return true if the slot was not already in the index.
+     */
+    public boolean add(TimeSlot slot) {
+        requireNonNull(slot);
+        boolean isAdded = slots.insert(slot);
+        if (isAdded) {
+            size++;
+        }
+        return isAdded;
+    }
+
+    /**
+     * Removes {@code slot} from the index once, so that it no longer conflicts with other slots after it has been
+     * removed as often as it was added.
+     *
+     * @return true if the slot was in the index.
+     */
+    public boolean remove(TimeSlot slot) {
+        requireNonNull(slot);
+        boolean isRemoved = slots.delete(slot);
+        if (slots.isNodeDeleted) {
+            size--;
+        }
+        return isRemoved;
+    }
+
+    /**
+     * Returns an existing slot that overlaps with {@code slot}, or {@code Optional.empty()} if there is none.
+     */
+    public Optional<TimeSlot> findConflict(TimeSlot slot) {
+        requireNonNull(slot);
+        return Optional.ofNullable(slots.findOverlapping(startOf(slot), endOf(slot)));
+    }
+
+    /**
+     * Returns true if {@code slot} overlaps with any slot in the index.
+     */
+    public boolean hasConflict(TimeSlot slot) {
+        return findConflict(slot).isPresent();
+    }
+
+    /**
+     * Removes all slots from the index.
+     */
+    public void clear() {
+        slots.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the number of distinct slots in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static long startOf(TimeSlot slot) {
+        return TimeSlot.startEpochMinuteOf(slot.encode());
+    }
+
+    private static long endOf(TimeSlot slot) {
+        return TimeSlot.endEpochMinuteOf(slot.encode());
+    }
+
+    /**
+     * An AVL tree of slots, keyed by start then end minute since the epoch.
+     */
+    private static class IntervalTree {
+        private Node root;
+        private boolean isInserted;
+        private boolean isDeleted;
+        private boolean isNodeDeleted;
+
+        boolean insert(TimeSlot slot) {
+            isInserted = false;
+            root = insert(root, slot, startOf(slot), endOf(slot));
+            return isInserted;
+        }
+
+        /**
+         * Removes {@code slot} once, and its node once it has been removed as often as it was inserted.
+         */
+        boolean delete(TimeSlot slot) {
+            isDeleted = false;
+            isNodeDeleted = false;
+            root = delete(root, startOf(slot), endOf(slot));
+            return isDeleted;
+        }
+
+        void clear() {
+            root = null;
+        }
+
+        /**
+         * Returns a slot overlapping with [start, end], or null if there is none.
+         */
+        TimeSlot findOverlapping(long start, long end) {
+            Node node = root;
+            while (node != null) {
+                if (node.start <= end && start <= node.end) {
+                    return node.slot;
+                }
+                // If the left subtree cannot reach the query, no slot in it overlaps, so only the right can.
+                // Otherwise some left slot ends at or after the query start; if none of them overlaps, every
+                // slot there starts after the query end, and so does every slot in the right subtree.
+                node = (node.left != null && node.left.maxEnd >= start) ? node.left : node.right;
+            }
+            return null;
+        }
+
+        private Node insert(Node node, TimeSlot slot, long start, long end) {
+            if (node == null) {
+                isInserted = true;
+                return new Node(slot, start, end);
+            }
+
+            int cmp = start != node.start ? Long.compare(start, node.start) : Long.compare(end, node.end);
+            if (cmp < 0) {
+                node.left = insert(node.left, slot, start, end);
+            } else if (cmp > 0) {
+                node.right = insert(node.right, slot, start, end);
+            } else {
+                node.count++;
+                return node;
+            }
+            return rebalance(node);
+        }
+
+        private Node delete(Node node, long start, long end) {
+            if (node == null) {
+                return null;
+            }
+
+            int cmp = start != node.start ? Long.compare(start, node.start) : Long.compare(end, node.end);
+            if (cmp < 0) {
+                node.left = delete(node.left, start, end);
+            } else if (cmp > 0) {
+                node.right = delete(node.right, start, end);
+            } else {
+                isDeleted = true;
+                if (--node.count > 0) {
+                    return node;
+                }
+                isNodeDeleted = true;
+                if (node.left == null || node.right == null) {
+                    return node.left == null ? node.right : node.left;
+                }
+                // the next slot in order takes the place of the deleted node
+                Node successor = node.right;
+                while (successor.left != null) {
+                    successor = successor.left;
+                }
+                successor.right = deleteFirst(node.right);
+                successor.left = node.left;
+                return rebalance(successor);
+            }
+            return rebalance(node);
+        }
+
+        private static Node deleteFirst(Node node) {
+            if (node.left == null) {
+                return node.right;
+            }
+            node.left = deleteFirst(node.left);
+            return rebalance(node);
+        }
+
+        private static Node rebalance(Node node) {
+            node.update();
+            int balance = height(node.left) - height(node.right);
+            if (balance > 1) {
+                if (height(node.left.left) < height(node.left.right)) {
+                    node.left = rotateLeft(node.left);
+                }
+                return rotateRight(node);
+            }
+            if (balance < -1) {
+                if (height(node.right.right) < height(node.right.left)) {
+                    node.right = rotateRight(node.right);
+                }
+                return rotateLeft(node);
+            }
+            return node;
+        }
+
+        private static Node rotateRight(Node node) {
+            Node pivot = node.left;
+            node.left = pivot.right;
+            pivot.right = node;
+            node.update();
+            pivot.update();
+            return pivot;
+        }
+
+        private static Node rotateLeft(Node node) {
+            Node pivot = node.right;
+            node.right = pivot.left;
+            pivot.left = node;
+            node.update();
+            pivot.update();
+            return pivot;
+        }
+
+        private static int height(Node node) {
+            return node == null ? 0 : node.height;
+        }
+    }
+
+    private static class Node {
+        private final TimeSlot slot;
+        private final long start;
+        private final long end;
+        private long maxEnd;
+        private int height;
+        private int count;
+        private Node left;
+        private Node right;
+
+        Node(TimeSlot slot, long start, long end) {
+            this.slot = slot;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+            this.height = 1;
+            this.count = 1;
+        }
+
+        /**
+         * Recomputes the cached height and subtree end of this node from its children.
+         */
+        void update() {
+            height = 1 + Math.max(IntervalTree.height(left), IntervalTree.height(right));
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+    }
+}
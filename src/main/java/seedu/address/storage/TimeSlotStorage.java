@@ -1,6 +1,9 @@
 package seedu.address.storage;
 
+import java.util.Optional;
+
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.person.TimeSlot;
 
 /**
@@ -14,5 +17,34 @@ public interface TimeSlotStorage {
      */
     boolean addSlot(TimeSlot slot);
 
+    /**
+     * Adds a TimeSlot that repeats by {@code recurrence} to the storage if none of its occurrences conflict with
+     * existing slots. Only the rule is stored, not every occurrence.
+     */
+    boolean addSlot(TimeSlot slot, Recurrence recurrence);
+
+    /**
+     * Adds a TimeSlot that repeats by {@code recurrence} to the storage, even if it conflicts with existing slots,
+     * such as to put back a slot that was removed.
+     */
+    void indexSlot(TimeSlot slot, Recurrence recurrence);
+
+    /**
+     * Removes a TimeSlot that repeats by {@code recurrence} from the storage once, so that it no longer conflicts
+     * with other slots once every person with that slot has been removed.
+     */
+    void removeSlot(TimeSlot slot, Recurrence recurrence);
+
+    /**
+     * Returns an existing TimeSlot that conflicts with {@code slot}, if any.
+     */
+    Optional<TimeSlot> findConflict(TimeSlot slot);
+
+    /**
+     * Returns an existing TimeSlot that conflicts with any occurrence of {@code slot} repeated by
+     * {@code recurrence}, if any.
+     */
+    Optional<TimeSlot> findConflict(TimeSlot slot, Recurrence recurrence);
+
     void loadExistingSlots(ReadOnlyAddressBook addressBook);
 }
@@ -0,0 +1,203 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that saves in the background through another {@code AddressBookStorage}.
+ * A save only takes a snapshot of the (immutable) persons and returns; the snapshot is written by a single
+ * writer thread. Saves that arrive while an earlier one is still being written are coalesced, so that only the
+ * latest snapshot of each file is written once the writer is free.
+ *
+ * A failed write cannot be reported to the save that requested it. It is logged, passed to the write failure
+ * handler straight away, and then thrown by the next call to {@link #saveAddressBook} or {@link #flush()}. The
+ * snapshot that failed is kept and written again with the next save or flush, unless a newer snapshot of the same
+ * file has replaced it by then.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage delegate;
+    private final ExecutorService writer;
+
+    /** Latest snapshot waiting to be written, per file. Guarded by {@code this}. */
+    private final Map<Path, ReadOnlyAddressBook> pendingSaves = new LinkedHashMap<>();
+    private boolean isWriteScheduled;
+    private IOException writeFailure;
+    private volatile Consumer<IOException> writeFailureHandler = failure -> { };
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes through {@code delegate}.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage delegate) {
+        requireNonNull(delegate);
+        this.delegate = delegate;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return delegate.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(delegate.getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but waits for pending saves to be written first so that they are
+     * included in the result.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        try {
+            flush();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return delegate.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, delegate.getAddressBookFilePath());
+    }
+
+    /**
+     * Schedules {@code addressBook} to be written to {@code filePath} and returns without waiting for the write.
+     *
+     * @throws IOException if an earlier write failed. {@code addressBook} is scheduled regardless.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAddressBook snapshot = new PersonListSnapshot(addressBook.getPersonList());
+        IOException failure;
+        synchronized (this) {
+            pendingSaves.put(filePath, snapshot);
+            scheduleWrite();
+            failure = takeWriteFailure();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void setWriteFailureHandler(Consumer<IOException> handler) {
+        requireNonNull(handler);
+        writeFailureHandler = handler;
+    }
+
+    /**
+     * Blocks until every scheduled save has been written, trying saves that failed earlier once more.
+     *
+     * @throws IOException if any write since the last reported failure has failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (this) {
+            scheduleWrite();
+        }
+        try {
+            // The writer runs tasks in order, so every write scheduled so far is done once this no-op is.
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        IOException failure;
+        synchronized (this) {
+            failure = takeWriteFailure();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Makes the writer write the pending saves, unless it is already going to. Must be called holding {@code this}.
+     */
+    private void scheduleWrite() {
+        if (!isWriteScheduled && !pendingSaves.isEmpty()) {
+            isWriteScheduled = true;
+            writer.execute(this::writePendingSaves);
+        }
+    }
+
+    private void writePendingSaves() {
+        Map<Path, ReadOnlyAddressBook> toWrite;
+        synchronized (this) {
+            toWrite = new LinkedHashMap<>(pendingSaves);
+            pendingSaves.clear();
+            isWriteScheduled = false;
+        }
+
+        for (Map.Entry<Path, ReadOnlyAddressBook> save : toWrite.entrySet()) {
+            try {
+                delegate.saveAddressBook(save.getValue(), save.getKey());
+            } catch (IOException e) {
+                logger.warning("Failed to save address book to " + save.getKey() + ": " + e.getMessage());
+                synchronized (this) {
+                    // retried with the next save or flush, unless a newer snapshot of the file replaced it
+                    pendingSaves.putIfAbsent(save.getKey(), save.getValue());
+                    writeFailure = e;
+                }
+                writeFailureHandler.accept(e);
+            }
+        }
+    }
+
+    private IOException takeWriteFailure() {
+        IOException failure = writeFailure;
+        writeFailure = null;
+        return failure;
+    }
+
+    /**
+     * An address book holding a copy of another address book's person list at the time it was created.
+     * Persons are immutable, so copying the list is enough to make the snapshot independent of later changes.
+     */
+    private static class PersonListSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        PersonListSnapshot(ObservableList<Person> persons) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitLine_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.splitLine(null));
+    }
+
+    @Test
+    public void splitLine_validLine_returnsFields() throws Exception {
+        assertEquals(List.of(""), CsvUtil.splitLine(""));
+        assertEquals(List.of("a", " b ", ""), CsvUtil.splitLine("a, b ,"));
+        assertEquals(List.of("", "", ""), CsvUtil.splitLine(",,"));
+
+        // quoted fields may contain commas and doubled quotes
+        assertEquals(List.of("311, Clementi Ave 2", "x"), CsvUtil.splitLine("\"311, Clementi Ave 2\",x"));
+        assertEquals(List.of("say \"hi\"", ""), CsvUtil.splitLine("\"say \"\"hi\"\"\","));
+        assertEquals(List.of("a", ""), CsvUtil.splitLine("a,\"\""));
+    }
+
+    @Test
+    public void formatLine_fields_splitsBackIntoFields() throws Exception {
+        assertEquals("a,b,", CsvUtil.formatLine(List.of("a", "b", "")));
+        assertEquals("\"311, Clementi\",\"say \"\"hi\"\"\",\" padded \"",
+                CsvUtil.formatLine(List.of("311, Clementi", "say \"hi\"", " padded ")));
+
+        List<String> fields = List.of("", "a,b", "\"", " x", "plain", "");
+        assertEquals(fields, CsvUtil.splitLine(CsvUtil.formatLine(fields)));
+    }
+
+    @Test
+    public void splitLine_invalidQuotes_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.splitLine("a,\"b"));
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_TEXT_AFTER_QUOTE, () ->
+                CsvUtil.splitLine("\"a\"b,c"));
+    }
+}
@@ -1,13 +1,26 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,54 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirs_createsFile() throws Exception {
+        Path file = testFolder.resolve("sub").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+
+        FileUtil.writeToFile(file, "new content");
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_keepsOldContents() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException();
+        }));
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(testFolder));
+    }
+
+    @Test
+    public void backUpFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Path backupFile = FileUtil.getBackupFilePath(file);
+
+        // missing file -> no backup
+        FileUtil.backUpFile(file);
+        assertFalse(Files.exists(backupFile));
+
+        // backup is unaffected by later writes
+        FileUtil.writeToFile(file, "first");
+        FileUtil.backUpFile(file);
+        FileUtil.writeToFile(file, "second");
+        assertEquals("first", FileUtil.readFromFile(backupFile));
+
+        // backup is replaced by the next one
+        FileUtil.backUpFile(file);
+        assertEquals("second", FileUtil.readFromFile(backupFile));
+    }
+
+    private static List<Path> listFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
 }
@@ -0,0 +1,35 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class IcsUtilTest {
+
+    @Test
+    public void escapeText() {
+        assertEquals("plain text", IcsUtil.escapeText("plain text"));
+        assertEquals("311\\, Clementi Ave 2\\; #02-25\\nback\\\\slash",
+                IcsUtil.escapeText("311, Clementi Ave 2; #02-25\nback\\slash"));
+    }
+
+    @Test
+    public void foldLine_shortLine_onlyEndsLine() {
+        assertEquals("SUMMARY:Amy\r\n", IcsUtil.foldLine("SUMMARY:Amy"));
+    }
+
+    @Test
+    public void foldLine_longLine_foldsWithinOctetLimit() {
+        String line = "DESCRIPTION:" + "é".repeat(100) + "x".repeat(100);
+        String folded = IcsUtil.foldLine(line);
+
+        for (String physicalLine : folded.split("\r\n")) {
+            assertTrue(physicalLine.getBytes(StandardCharsets.UTF_8).length <= IcsUtil.MAX_LINE_OCTETS);
+        }
+        // unfolding removes each line break and the space after it
+        assertEquals(line + "\r\n", folded.replace("\r\n ", ""));
+    }
+}
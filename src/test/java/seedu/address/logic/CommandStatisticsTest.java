@@ -0,0 +1,67 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandStatistics.Phase;
+
+public class CommandStatisticsTest {
+
+    private final CommandStatistics statistics = new CommandStatistics();
+
+    @Test
+    public void record_null_throwsNullPointerException() {
+        CommandStatistics.Stopwatch stopwatch = statistics.start();
+        assertThrows(NullPointerException.class, () -> statistics.record(null, Phase.PARSE, stopwatch));
+        assertThrows(NullPointerException.class, () -> statistics.record("list", null, stopwatch));
+    }
+
+    @Test
+    public void getSummary_noCommands_returnsMessage() {
+        assertEquals(CommandStatistics.MESSAGE_NO_COMMANDS, statistics.getSummary());
+    }
+
+    @Test
+    public void getSummary_recordedPhases_showsPercentilesByCommandWordAndPhase() {
+        for (int i = 1; i <= 100; i++) {
+            statistics.record("list", Phase.PARSE, i * 1_000_000L, i * 1024L);
+            statistics.record("list", Phase.EXECUTE, 2_000_000L, CommandStatistics.UNKNOWN_BYTES);
+        }
+        statistics.record("add", Phase.PARSE, 500_000L, 100);
+        statistics.recordAvoidedSave();
+
+        assertEquals(101, statistics.getCommandCount());
+        assertEquals("101 commands, 1 saves avoided\n"
+                + "add parse: n=1 time p50=0.500ms p99=0.500ms alloc p50=100B p99=100B\n"
+                + "list parse: n=100 time p50=50.000ms p99=99.000ms alloc p50=50.0KB p99=99.0KB\n"
+                + "list execute: n=100 time p50=2.000ms p99=2.000ms alloc p50=? p99=?",
+                statistics.getSummary());
+    }
+
+    @Test
+    public void getSummary_moreSamplesThanCapacity_onlyRecentSamplesCount() {
+        for (int i = 0; i < CommandStatistics.SAMPLE_CAPACITY; i++) {
+            statistics.record("find", Phase.EXECUTE, 9_000_000L, 0);
+        }
+        for (int i = 0; i < CommandStatistics.SAMPLE_CAPACITY; i++) {
+            statistics.record("find", Phase.EXECUTE, 1_000_000L, 0);
+        }
+
+        assertTrue(statistics.getSummary().contains("find execute: n=" + 2 * CommandStatistics.SAMPLE_CAPACITY
+                + " time p50=1.000ms p99=1.000ms"), statistics.getSummary());
+    }
+
+    @Test
+    public void record_stopwatch_measuresEachPhaseSeparately() {
+        CommandStatistics.Stopwatch stopwatch = statistics.start();
+        statistics.record("list", Phase.PARSE, stopwatch);
+        statistics.record("list", Phase.EXECUTE, stopwatch);
+
+        assertEquals(1, statistics.getCommandCount());
+        assertTrue(statistics.getSummary().contains("list parse: n=1"));
+        assertTrue(statistics.getSummary().contains("list execute: n=1"));
+    }
+}
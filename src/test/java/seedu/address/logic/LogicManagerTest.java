@@ -1,27 +1,46 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.TIMESLOT_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.TIMESLOT_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -32,6 +51,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -71,6 +91,79 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommands_skipSaving() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        LogicManager logicManager = (LogicManager) logic;
+
+        // the first command always saves, so that the data file exists
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertTrue(Files.exists(addressBookPath));
+        assertEquals(0, logicManager.getAvoidedSaveCount());
+
+        Files.delete(addressBookPath);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute(FindCommand.COMMAND_WORD + " alice");
+        assertFalse(Files.exists(addressBookPath));
+        assertEquals(2, logicManager.getAvoidedSaveCount());
+
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + TIMESLOT_DESC_AMY);
+        assertTrue(Files.exists(addressBookPath));
+        assertEquals(2, logicManager.getAvoidedSaveCount());
+    }
+
+    @Test
+    public void execute_commands_recordsPhasesByCommandWord() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute("  " + ListCommand.COMMAND_WORD + " 3");
+        assertThrows(CommandException.class, () -> logicManager.execute("delete 9"));
+        assertThrows(ParseException.class, () -> logicManager.execute("uicfhmowqewca"));
+
+        // commands that cannot be parsed are not recorded, and commands that fail are not saved
+        String summary = logicManager.getCommandStatistics().getSummary();
+        assertTrue(summary.startsWith("3 commands, 1 saves avoided"), summary);
+        assertTrue(summary.contains("list parse: n=2"), summary);
+        assertTrue(summary.contains("list execute: n=2"), summary);
+        assertTrue(summary.contains("list save: n=1"), summary);
+        assertTrue(summary.contains("delete execute: n=1"), summary);
+        assertFalse(summary.contains("delete save"), summary);
+
+        CommandResult result = logicManager.execute(StatsCommand.COMMAND_WORD);
+        assertTrue(result.getFeedbackToUser().contains("list save: n=1"));
+    }
+
+    @Test
+    public void execute_batch_savesOnceAtEnd() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        Path batchFile = Files.write(temporaryFolder.resolve("batch.txt"), List.of(
+                AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                        + TIMESLOT_DESC_AMY,
+                AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB
+                        + TIMESLOT_DESC_BOB));
+        logic.execute(BatchCommand.COMMAND_WORD + " " + batchFile);
+        assertEquals(1, saveCount[0]);
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+
+        // a batch that fails is neither applied nor saved
+        Files.write(batchFile, List.of("delete 1", "delete 1", "delete 1"));
+        assertCommandException(BatchCommand.COMMAND_WORD + " " + batchFile,
+                String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 3, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertEquals(1, saveCount[0]);
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -83,6 +176,84 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_backgroundSaveFails_reportsFailureAndSavesAgain() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        boolean[] isFailing = {true};
+        WriteBehindAddressBookStorage addressBookStorage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(addressBookPath) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (isFailing[0]) {
+                            throw DUMMY_IO_EXCEPTION;
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                });
+        LogicManager logicManager = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        List<String> feedback = new CopyOnWriteArrayList<>();
+        logicManager.setBackgroundFeedbackHandler(feedback::add);
+
+        // the save is only scheduled, so the command succeeds before the write fails
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertThrows(IOException.class, addressBookStorage::flush);
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                feedback);
+
+        // the next command saves again, even though it does not change the address book
+        isFailing[0] = false;
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        addressBookStorage.flush();
+        assertTrue(Files.exists(addressBookPath));
+        assertEquals(0, logicManager.getAvoidedSaveCount());
+    }
+
+    @Test
+    public void execute_export_reportsCompletionInBackground() throws Exception {
+        Path exportPath = temporaryFolder.resolve("persons.csv");
+        CompletableFuture<String> feedback = new CompletableFuture<>();
+        logic.setBackgroundFeedbackHandler(feedback::complete);
+
+        CommandResult result = logic.execute(ExportCommand.COMMAND_WORD + " " + exportPath);
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 0, exportPath), result.getFeedbackToUser());
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORTED, 0, exportPath), feedback.get(10, TimeUnit.SECONDS));
+        assertTrue(Files.exists(exportPath));
+    }
+
+    @Test
+    public void previewCommand_find_showsWhatFindShowsUntilTextChanges() throws Exception {
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addPerson(CARL);
+        logic.execute(FindCommand.COMMAND_WORD + " Meier Kurz");
+
+        // the same persons as the find command would show
+        logic.previewCommand("find  al");
+        assertEquals(List.of(ALICE), logic.getFilteredPersonList());
+        logic.previewCommand("find al MEI");
+        assertEquals(List.of(ALICE, BENSON), logic.getFilteredPersonList());
+        logic.execute(FindCommand.COMMAND_WORD + " al MEI");
+        assertEquals(List.of(ALICE, BENSON), logic.getFilteredPersonList());
+        logic.execute(FindCommand.COMMAND_WORD + " Meier Kurz");
+
+        // no longer a find command with keywords -> the list from before the preview
+        logic.previewCommand("find al");
+        logic.previewCommand("find ");
+        assertEquals(List.of(BENSON, CARL), logic.getFilteredPersonList());
+
+        // a command that cannot be parsed ends the preview too
+        logic.previewCommand("find al");
+        assertThrows(ParseException.class, () -> logic.execute("find"));
+        assertEquals(List.of(BENSON, CARL), logic.getFilteredPersonList());
+
+        // an executed command is not undone by a later preview
+        logic.previewCommand("find al");
+        logic.execute(FindCommand.COMMAND_WORD + " Benson");
+        logic.previewCommand("");
+        assertEquals(List.of(BENSON), logic.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
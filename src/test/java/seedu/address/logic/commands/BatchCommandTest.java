@@ -0,0 +1,118 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class BatchCommandTest {
+
+    private static final Path FILE_PATH = Path.of("batch.txt");
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_appliesAll() {
+        Map<Integer, Command> commandsByLine = new LinkedHashMap<>();
+        commandsByLine.put(1, new AddCommand(AMY));
+        commandsByLine.put(3, new DeleteCommand(INDEX_FIRST_PERSON));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(0));
+
+        assertCommandSuccess(new BatchCommand(FILE_PATH, commandsByLine), model,
+                String.format(BatchCommand.MESSAGE_SUCCESS, 2, FILE_PATH), expectedModel);
+    }
+
+    @Test
+    public void execute_commandFails_rollsBackEarlierCommands() {
+        Map<Integer, Command> commandsByLine = new LinkedHashMap<>();
+        commandsByLine.put(1, new AddCommand(AMY));
+        commandsByLine.put(2, new ClearCommand());
+        commandsByLine.put(4, new DeleteCommand(INDEX_FIRST_PERSON));
+
+        assertCommandFailure(new BatchCommand(FILE_PATH, commandsByLine), model,
+                String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 4, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertTrue(model.hasPerson(ALICE));
+        assertFalse(model.hasPerson(AMY));
+
+        // the time slot booked by the batch is free again
+        assertFalse(model.getStorage().findConflict(AMY.getTimeSlot(), AMY.getRecurrence()).isPresent());
+    }
+
+    @Test
+    public void execute_commandFails_restoresFilteredList() {
+        model.updateFilteredPersonList(person -> person.equals(ALICE));
+        Map<Integer, Command> commandsByLine = new LinkedHashMap<>();
+        commandsByLine.put(1, new AddCommand(AMY));
+        commandsByLine.put(2, new DeleteCommand(Index.fromOneBased(20)));
+
+        assertCommandFailure(new BatchCommand(FILE_PATH, commandsByLine), model,
+                String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+
+        // filter updates are no longer held back
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(model.getAddressBook().getPersonList().size(), model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void equals() {
+        Map<Integer, Command> commandsByLine = Map.of(1, new AddCommand(AMY));
+        BatchCommand batchCommand = new BatchCommand(FILE_PATH, commandsByLine);
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // same values -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(FILE_PATH, Map.of(1, new AddCommand(AMY)))));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(batchCommand.equals(1));
+
+        // different file -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(Path.of("other.txt"), commandsByLine)));
+
+        // different commands -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(FILE_PATH, Map.of(2, new AddCommand(AMY)))));
+        assertFalse(batchCommand.equals(new BatchCommand(FILE_PATH, Map.of(1, new AddCommand(BOB)))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Map<Integer, Command> commandsByLine = Map.of(1, new ClearCommand());
+        BatchCommand batchCommand = new BatchCommand(FILE_PATH, commandsByLine);
+        String expected = BatchCommand.class.getCanonicalName() + "{filePath=" + FILE_PATH
+                + ", commandsByLine=" + commandsByLine + "}";
+        assertEquals(expected, batchCommand.toString());
+    }
+}
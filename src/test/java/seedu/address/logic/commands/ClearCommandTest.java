@@ -1,6 +1,8 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
@@ -9,6 +11,7 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.TimeSlot;
 
 public class ClearCommandTest {
 
@@ -29,4 +32,13 @@ public class ClearCommandTest {
         assertCommandSuccess(new ClearCommand(), model, ClearCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_nonEmptyAddressBook_freesTimeSlots() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        TimeSlot slot = ALICE.getTimeSlot();
+
+        new ClearCommand().execute(model);
+
+        assertFalse(model.getStorage().findConflict(slot).isPresent());
+    }
 }
@@ -18,6 +18,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeSlot;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -41,6 +42,21 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_lastPersonWithSlot_freesTimeSlot() throws Exception {
+        Person personToDelete = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        TimeSlot slot = personToDelete.getTimeSlot();
+        new DeleteCommand(INDEX_FIRST_PERSON).execute(model);
+
+        // the other typical persons have the same slot
+        assertTrue(model.getStorage().findConflict(slot).isPresent());
+
+        while (!model.getFilteredPersonList().isEmpty()) {
+            new DeleteCommand(INDEX_FIRST_PERSON).execute(model);
+        }
+        assertFalse(model.getStorage().findConflict(slot).isPresent());
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -13,6 +13,8 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Recurrence;
+import seedu.address.model.person.TimeSlot;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -108,6 +112,59 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, EditCommand.MESSAGE_DUPLICATE_PERSON);
     }
 
+    @Test
+    public void execute_recurrenceEndsBeforeTimeSlot_failure() {
+        // the first person's time slot is in 2025
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withRecurrence("weekly 2000-01-01").build();
+        EditCommand editCommand = new EditCommand(INDEX_FIRST_PERSON, descriptor);
+
+        assertCommandFailure(editCommand, model, Recurrence.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void execute_recurrenceAdded_laterAddsCheckedAgainstIt() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).withTimeSlot("2025-10-12 1600-1800").build());
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withRecurrence("weekly 2025-12-31").build();
+        new EditCommand(INDEX_FIRST_PERSON, descriptor).execute(model);
+
+        // a one-off slot on a later occurrence of the edited person's slot now conflicts
+        Person clashing = new PersonBuilder(BENSON).withTimeSlot("2025-10-19 1700-1900").build();
+        assertCommandFailure(new AddCommand(clashing), model,
+                String.format(Messages.MESSAGE_TIMESLOT_CONFLICT_WITH, new TimeSlot("2025-10-19 1600-1800")));
+    }
+
+    @Test
+    public void execute_recurrenceConflicts_failure() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).withTimeSlot("2025-10-12 1600-1800").build());
+        addressBook.addPerson(new PersonBuilder(BENSON).withTimeSlot("2025-10-26 1700-1800").build());
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withRecurrence("weekly 2025-12-31").build();
+
+        assertCommandFailure(new EditCommand(INDEX_FIRST_PERSON, descriptor), model,
+                String.format(Messages.MESSAGE_TIMESLOT_CONFLICT_WITH, new TimeSlot("2025-10-26 1700-1800")));
+
+        // the slots of both persons are still taken
+        assertTrue(model.getStorage().findConflict(new TimeSlot("2025-10-12 1700-1900")).isPresent());
+        assertTrue(model.getStorage().findConflict(new TimeSlot("2025-10-26 1700-1900")).isPresent());
+        assertFalse(model.getStorage().findConflict(new TimeSlot("2025-10-19 1700-1900")).isPresent());
+    }
+
+    @Test
+    public void execute_timeSlotMoved_oldSlotFreed() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).withTimeSlot("2025-10-12 1600-1800").build());
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        EditPersonDescriptor descriptor =
+                new EditPersonDescriptorBuilder().withTimeSlot("2025-11-01 1000-1100").build();
+        new EditCommand(INDEX_FIRST_PERSON, descriptor).execute(model);
+
+        assertFalse(model.getStorage().findConflict(new TimeSlot("2025-10-12 1600-1800")).isPresent());
+        assertTrue(model.getStorage().findConflict(new TimeSlot("2025-11-01 1030-1130")).isPresent());
+    }
+
     @Test
     public void execute_duplicatePersonFilteredList_failure() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
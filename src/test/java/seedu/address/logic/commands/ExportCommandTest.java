@@ -0,0 +1,201 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExportCommand.Format;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeslotRangePredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class ExportCommandTest {
+
+    /** Writes the file before {@code execute} returns, so that tests can read it. */
+    private static final Executor SAME_THREAD = Runnable::run;
+
+    private static final Person WEEKLY = new PersonBuilder().withName("Amy Bee").withPhone("85355255")
+            .withEmail("amy@gmail.com").withAddress("311, Clementi Ave 2; #02-25").withTimeSlot("2025-10-01 1600-1800")
+            .withRecurrence("biweekly 2025-12-31").withAvailability("MON 0900-1200").withTags("friends", "maths")
+            .build();
+    private static final Person ONCE = new PersonBuilder().withName("Hoon Kim").withPhone("95352563")
+            .withEmail("hoon@gmail.com").withAddress("Block 1 \"Tampines\"")
+            .withTimeSlot("2025-11-03 0900-1000").withTags()
+            .build();
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(WEEKLY);
+        addressBook.addPerson(ONCE);
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_csv_canBeImportedAgain() throws Exception {
+        model.addPerson(ALICE);
+        Path file = temporaryFolder.resolve("persons.csv");
+
+        CommandResult result = new ExportCommand(file, Format.CSV, Optional.empty(), SAME_THREAD).execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, model.getFilteredPersonList().size(), file),
+                result.getFeedbackToUser());
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORTED, model.getFilteredPersonList().size(), file),
+                getBackgroundFeedback(result));
+
+        Model importedModel = new ModelManager(new AddressBook(), new UserPrefs());
+        new ImportCommand(file).execute(importedModel);
+        assertEquals(model.getAddressBook(), importedModel.getAddressBook());
+    }
+
+    @Test
+    public void execute_range_exportsPersonsInRangeOnly() throws Exception {
+        Path file = temporaryFolder.resolve("november.csv");
+        TimeslotRangePredicate november = new TimeslotRangePredicate(Optional.of(LocalDate.of(2025, 11, 1)),
+                Optional.of(LocalDate.of(2025, 11, 30)), Optional.empty(), Optional.of(LocalTime.of(12, 0)));
+
+        new ExportCommand(file, Format.CSV, Optional.of(november), SAME_THREAD).execute(model);
+        assertEquals(2, Files.readAllLines(file).size());
+        assertTrue(Files.readAllLines(file).get(1)
+                .startsWith("Hoon Kim,95352563,hoon@gmail.com,\"Block 1 \"\"Tampines\"\"\","));
+    }
+
+    @Test
+    public void execute_ics_writesOneEventPerPerson() throws Exception {
+        Path file = temporaryFolder.resolve("lessons.ics");
+        new ExportCommand(file, Format.ICS, Optional.empty(), SAME_THREAD).execute(model);
+
+        String ics = Files.readString(file);
+        assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(ics.endsWith("END:VEVENT\r\nEND:VCALENDAR\r\n"));
+        assertEquals(2, ics.split("BEGIN:VEVENT", -1).length - 1);
+        assertTrue(ics.contains("DTSTART:20251001T160000\r\nDTEND:20251001T180000\r\n"
+                + "RRULE:FREQ=WEEKLY;INTERVAL=2;UNTIL=20251224T180000\r\n"
+                + "SUMMARY:Amy Bee\r\nLOCATION:311\\, Clementi Ave 2\\; #02-25\r\n"
+                + "DESCRIPTION:Phone: 85355255\\nEmail: amy@gmail.com\r\nCATEGORIES:friends,maths\r\n"));
+        assertTrue(ics.contains("DTSTART:20251103T090000\r\nDTEND:20251103T100000\r\n"
+                + "SUMMARY:Hoon Kim\r\nLOCATION:Block 1 \"Tampines\"\r\n"));
+    }
+
+    @Test
+    public void execute_directory_throwsCommandException() throws Exception {
+        Path directory = Files.createDirectory(temporaryFolder.resolve("lessons.csv"));
+        assertCommandFailure(new ExportCommand(directory, Format.CSV, Optional.empty(), SAME_THREAD), model,
+                String.format(ExportCommand.MESSAGE_CANNOT_WRITE_FILE, directory, ExportCommand.MESSAGE_IS_DIRECTORY));
+    }
+
+    @Test
+    public void execute_folderIsFile_throwsCommandException() throws Exception {
+        Path file = Files.createFile(temporaryFolder.resolve("folder")).resolve("lessons.csv");
+        assertThrows(CommandException.class, () ->
+                new ExportCommand(file, Format.CSV, Optional.empty(), SAME_THREAD).execute(model));
+    }
+
+    @Test
+    public void execute_executorRejects_throwsCommandException() {
+        Path file = temporaryFolder.resolve("lessons.csv");
+        Executor rejecting = runnable -> {
+            throw new RejectedExecutionException();
+        };
+        assertCommandFailure(new ExportCommand(file, Format.CSV, Optional.empty(), rejecting), model,
+                String.format(ExportCommand.MESSAGE_CANNOT_WRITE_FILE, file, ExportCommand.MESSAGE_BUSY));
+    }
+
+    @Test
+    public void execute_writeFailsLater_reportsFailure() throws Exception {
+        Path folder = temporaryFolder.resolve("exports");
+        Path file = folder.resolve("lessons.csv");
+        Runnable[] pending = new Runnable[1];
+        CommandResult result = new ExportCommand(file, Format.CSV, Optional.empty(), runnable ->
+                pending[0] = runnable).execute(model);
+        assertFalse(result.getBackgroundFeedback().get().toCompletableFuture().isDone());
+
+        // the folder is replaced by a file after the command was checked, but before the export is written
+        Files.delete(folder);
+        Files.createFile(folder);
+        pending[0].run();
+        assertTrue(getBackgroundFeedback(result).startsWith(
+                String.format(ExportCommand.MESSAGE_CANNOT_WRITE_FILE, file, "")));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void execute_backgroundExecutor_writesFileLater() throws Exception {
+        Path file = temporaryFolder.resolve("later.csv");
+        Runnable[] pending = new Runnable[1];
+        new ExportCommand(file, Format.CSV, Optional.empty(), runnable -> pending[0] = runnable).execute(model);
+        assertFalse(Files.exists(file));
+
+        // later changes to the list do not change what is exported
+        model.setAddressBook(new AddressBook());
+        pending[0].run();
+        assertEquals(3, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void equals() {
+        Path file = Path.of("a.csv");
+        ExportCommand exportCommand = new ExportCommand(file, Format.CSV, Optional.empty());
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values, even if written on another executor -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(file, Format.CSV, Optional.empty(), SAME_THREAD)));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+
+        // different values -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Path.of("b.csv"), Format.CSV, Optional.empty())));
+        assertFalse(exportCommand.equals(new ExportCommand(file, Format.ICS, Optional.empty())));
+        assertFalse(exportCommand.equals(new ExportCommand(file, Format.CSV, Optional.of(new TimeslotRangePredicate(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty())))));
+    }
+
+    @Test
+    public void formatOfFileName() {
+        assertEquals(Optional.of(Format.CSV), Format.ofFileName("lessons.CSV"));
+        assertEquals(Optional.of(Format.ICS), Format.ofFileName("lessons.ics"));
+        assertEquals(Optional.empty(), Format.ofFileName("lessons.txt"));
+        assertEquals(Optional.empty(), Format.ofFileName("csv"));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ExportCommand exportCommand = new ExportCommand(Path.of("a.csv"), Format.CSV, Optional.empty());
+        assertEquals(ExportCommand.class.getCanonicalName() + "{filePath=a.csv, format=CSV, range=Optional.empty}",
+                exportCommand.toString());
+    }
+
+    private static String getBackgroundFeedback(CommandResult result) throws Exception {
+        return result.getBackgroundFeedback().get().toCompletableFuture().get();
+    }
+}
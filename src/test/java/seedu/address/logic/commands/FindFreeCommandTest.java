@@ -0,0 +1,120 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code FindFreeCommand}.
+ */
+public class FindFreeCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setPerson(ALICE, new PersonBuilder(ALICE)
+                .withAvailability("MON 0900-1200", "TUE 1000-1100", "WED 2200-2400", "THU 0000-0100").build());
+        model.setPerson(BENSON, new PersonBuilder(BENSON)
+                .withAvailability("MON 1000-1300", "TUE 0900-1100", "WED 2300-2400", "THU 0000-0200").build());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_twoPersons_listsCommonFreeTimesInOrder() {
+        FindFreeCommand command = new FindFreeCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), 60);
+        String expectedMessage = String.format(FindFreeCommand.MESSAGE_FREE_SLOTS_FOUND, 60,
+                "MON 1000-1200\nTUE 1000-1100\nWED 2300-THU 0100");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_durationBetweenBins_roundedUpToWholeBins() {
+        FindFreeCommand command = new FindFreeCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), 61);
+        String expectedMessage = String.format(FindFreeCommand.MESSAGE_FREE_SLOTS_FOUND, 61,
+                "MON 1000-1200\nWED 2300-THU 0100");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noCommonFreeTime_noFreeSlotsMessage() {
+        // the third person has not given their availability
+        FindFreeCommand command = new FindFreeCommand(List.of(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON), 30);
+        assertCommandSuccess(command, model, String.format(FindFreeCommand.MESSAGE_NO_FREE_SLOTS, 30),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_manyFreeTimes_showsEarliest() {
+        model.setPerson(model.getFilteredPersonList().get(0), new PersonBuilder(ALICE).withAvailability(
+                "MON 0000-0100", "TUE 0000-0100", "WED 0000-0100", "THU 0000-0100", "FRI 0000-0100",
+                "SAT 0000-0100").build());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        FindFreeCommand command = new FindFreeCommand(List.of(INDEX_FIRST_PERSON), 60);
+
+        String expectedMessage = String.format(FindFreeCommand.MESSAGE_FREE_SLOTS_FOUND, 60,
+                "MON 0000-0100\nTUE 0000-0100\nWED 0000-0100\nTHU 0000-0100\nFRI 0000-0100");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        FindFreeCommand command = new FindFreeCommand(List.of(INDEX_FIRST_PERSON, outOfBoundIndex), 30);
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        FindFreeCommand findFirstCommand = new FindFreeCommand(List.of(INDEX_FIRST_PERSON), 30);
+        FindFreeCommand findBothCommand = new FindFreeCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), 30);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindFreeCommand(List.of(INDEX_FIRST_PERSON), 30)));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different indexes -> returns false
+        assertFalse(findFirstCommand.equals(findBothCommand));
+
+        // different duration -> returns false
+        assertFalse(findFirstCommand.equals(new FindFreeCommand(List.of(INDEX_FIRST_PERSON), 60)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FindFreeCommand command = new FindFreeCommand(List.of(INDEX_FIRST_PERSON), 30);
+        String expected = FindFreeCommand.class.getCanonicalName() + "{targetIndexes=" + List.of(INDEX_FIRST_PERSON)
+                + ", durationMinutes=30}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.parser.CsvPersonParser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "name,phone,email,address,timeslot,recurrence,tags";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_mixedRows_importsValidRowsAndReportsRejects() throws Exception {
+        Path file = write(HEADER,
+                "Amy Bee,85355255,amy@gmail.com,Jurong,2025-10-01 1600-1800,weekly 2025-12-31,friends",
+                "",
+                "Bob Choo,85a,bob@gmail.com,Clementi,2025-10-02 1600-1800,,",
+                "Amy Bee,85355255,amy@gmail.com,Jurong,2025-10-03 1600-1800,,",
+                "Carl Kurz,95352563,carl@gmail.com,Tampines,2025-10-15 1700-1900,,",
+                ALICE.getName() + ",95352563,alice@gmail.com,Tampines,2025-11-03 1700-1900,,",
+                "Dan Lim,95352564,dan@gmail.com,\"Block 1, Bedok\",2025-10-16 0900-1000,,tutor;friends");
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, file, 4)
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 4, Phone.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 5, AddCommand.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 6, String.format(
+                        Messages.MESSAGE_TIMESLOT_CONFLICT_WITH, new TimeSlot("2025-10-15 1600-1800")))
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 7, AddCommand.MESSAGE_DUPLICATE_PERSON),
+                result.getFeedbackToUser());
+        assertEquals(List.of(ALICE,
+                new PersonBuilder().withName("Amy Bee").withPhone("85355255").withEmail("amy@gmail.com")
+                        .withAddress("Jurong").withTimeSlot("2025-10-01 1600-1800")
+                        .withRecurrence("weekly 2025-12-31").withTags("friends").build(),
+                new PersonBuilder().withName("Dan Lim").withPhone("95352564").withEmail("dan@gmail.com")
+                        .withAddress("Block 1, Bedok").withTimeSlot("2025-10-16 0900-1000")
+                        .withTags("tutor", "friends").build()),
+                model.getAddressBook().getPersonList());
+
+        // the time slots of imported persons are booked
+        assertTrue(model.getStorage().findConflict(new TimeSlot("2025-10-08 1700-1730")).isPresent());
+    }
+
+    @Test
+    public void execute_manyRejects_reportsFirstRejectsOnly() throws Exception {
+        List<String> lines = new ArrayList<>(List.of(HEADER));
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_REJECTS + 5; i++) {
+            lines.add("Amy Bee,85a,amy@gmail.com,Jurong,2025-10-01 1600-1800,,");
+        }
+        CommandResult result = new ImportCommand(write(lines.toArray(String[]::new))).execute(model);
+
+        String[] reportLines = result.getFeedbackToUser().split("\n");
+        assertEquals(ImportCommand.MAX_REPORTED_REJECTS + 2, reportLines.length);
+        assertEquals(String.format(ImportCommand.MESSAGE_MORE_REJECTED_ROWS, 5), reportLines[reportLines.length - 1]);
+        assertEquals(List.of(ALICE), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_fileStartsWithByteOrderMark_importsRows() throws Exception {
+        // as saved by Excel's "CSV UTF-8"
+        Path file = write("\uFEFF" + HEADER, "Amy Bee,85355255,amy@gmail.com,Jurong,2025-10-01 1600-1800,,");
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, file, 0), result.getFeedbackToUser());
+        assertEquals(List.of(ALICE, new PersonBuilder().withName("Amy Bee").withPhone("85355255")
+                        .withEmail("amy@gmail.com").withAddress("Jurong").withTimeSlot("2025-10-01 1600-1800")
+                        .withTags().build()),
+                model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_invalidFile_throwsCommandException() throws Exception {
+        Path missing = temporaryFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(missing), model,
+                String.format(ImportCommand.MESSAGE_CANNOT_READ_FILE, missing, missing));
+
+        Path empty = write("", " ");
+        assertCommandFailure(new ImportCommand(empty), model, String.format(ImportCommand.MESSAGE_EMPTY_FILE, empty));
+
+        Path noHeader = write("Amy Bee,85355255,amy@gmail.com,Jurong,2025-10-01 1600-1800,,");
+        assertCommandFailure(new ImportCommand(noHeader), model, String.format(ImportCommand.MESSAGE_INVALID_HEADER,
+                noHeader, String.format(CsvPersonParser.MESSAGE_UNKNOWN_COLUMN, "Amy Bee")));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Path.of("a.csv"));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Path.of("a.csv"))));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(importCommand.equals(1));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Path.of("b.csv"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ImportCommand importCommand = new ImportCommand(Path.of("a.csv"));
+        assertEquals(ImportCommand.class.getCanonicalName() + "{filePath=a.csv}", importCommand.toString());
+    }
+
+    private Path write(String... lines) throws IOException {
+        return Files.write(Files.createTempFile(temporaryFolder, "import", ".csv"), List.of(lines));
+    }
+}
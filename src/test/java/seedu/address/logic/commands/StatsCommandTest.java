@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandStatistics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_showsSummary() {
+        CommandStatistics statistics = new CommandStatistics();
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager();
+
+        assertCommandSuccess(new StatsCommand(statistics), model,
+                String.format(StatsCommand.MESSAGE_SUCCESS, CommandStatistics.MESSAGE_NO_COMMANDS), expectedModel);
+
+        statistics.record(ListCommand.COMMAND_WORD, CommandStatistics.Phase.PARSE, statistics.start());
+        assertCommandSuccess(new StatsCommand(statistics), model,
+                String.format(StatsCommand.MESSAGE_SUCCESS, statistics.getSummary()), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        CommandStatistics statistics = new CommandStatistics();
+        StatsCommand statsCommand = new StatsCommand(statistics);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same statistics -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(statistics)));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(statsCommand.equals(1));
+
+        // different statistics -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandStatistics())));
+    }
+}
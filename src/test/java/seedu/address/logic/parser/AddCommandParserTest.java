@@ -30,6 +30,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -45,6 +46,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
@@ -143,6 +145,22 @@ public class AddCommandParserTest {
                 new AddCommand(expectedPerson));
     }
 
+    @Test
+    public void parse_recurrence() {
+        String details = NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + TIMESLOT_DESC_AMY;
+        Person expectedPerson = new PersonBuilder(AMY).withTags().withRecurrence("weekly 2025-06-30").build();
+        assertParseSuccess(parser, details + " " + PREFIX_RECURRENCE + "weekly 2025-06-30",
+                new AddCommand(expectedPerson));
+
+        // invalid recurrence
+        assertParseFailure(parser, details + " " + PREFIX_RECURRENCE + "monthly 2025-06-30",
+                Recurrence.MESSAGE_CONSTRAINTS);
+
+        // ends before the time slot
+        assertParseFailure(parser, details + " " + PREFIX_RECURRENCE + "weekly 2025-03-02",
+                Recurrence.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_compulsoryFieldMissing_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE);
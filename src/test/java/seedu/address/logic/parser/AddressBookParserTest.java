@@ -8,6 +8,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Path;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
@@ -16,17 +17,22 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.CommandStatistics;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FilterTimeslotCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindFreeCommand;
 import seedu.address.logic.commands.FindTagCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -95,6 +101,26 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand(Path.of("lessons.ics"), ExportCommand.Format.ICS, Optional.empty()),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " lessons.ics"));
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand(Path.of("students.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " students.csv"));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandStatistics statistics = new CommandStatistics();
+        AddressBookParser statisticsParser = new AddressBookParser(statistics);
+        assertEquals(new StatsCommand(statistics), statisticsParser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(statistics), statisticsParser.parseCommand(StatsCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -123,6 +149,13 @@ public class AddressBookParserTest {
         assertEquals(expectedCommand, parser.parseCommand(commandString));
     }
 
+    @Test
+    public void parseCommand_findFree() throws Exception {
+        FindFreeCommand command = (FindFreeCommand) parser.parseCommand(
+                FindFreeCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased() + " d/60");
+        assertEquals(new FindFreeCommand(List.of(INDEX_FIRST_PERSON), 60), command);
+    }
+
     @Test
     public void parseCommand_findtag() throws Exception {
         List<String> keywords = Arrays.asList("friends", "owesMoney");
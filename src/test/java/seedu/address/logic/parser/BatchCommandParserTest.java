@@ -0,0 +1,102 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.TIMESLOT_DESC_AMY;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FilterTimeslotCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindFreeCommand;
+import seedu.address.logic.commands.FindTagCommand;
+import seedu.address.logic.commands.FindTimeslotCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.testutil.PersonBuilder;
+
+public class BatchCommandParserTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+            + ADDRESS_DESC_AMY + TIMESLOT_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final BatchCommandParser parser = new BatchCommandParser(new AddressBookParser());
+
+    @Test
+    public void parse_validFile_returnsBatchCommand() throws IOException {
+        Path file = write("# new students", ADD_AMY, "", "  " + DeleteCommand.COMMAND_WORD + " 1  ");
+
+        Map<Integer, Command> commandsByLine = new LinkedHashMap<>();
+        commandsByLine.put(2, new AddCommand(new PersonBuilder(AMY).withTags().build()));
+        commandsByLine.put(4, new DeleteCommand(INDEX_FIRST_PERSON));
+        assertParseSuccess(parser, " " + file, new BatchCommand(file, commandsByLine));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() throws IOException {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+
+        Path missing = temporaryFolder.resolve("missing.txt");
+        assertParseFailure(parser, missing.toString(), String.format(BatchCommandParser.MESSAGE_CANNOT_READ_FILE,
+                missing, missing));
+
+        Path empty = write("# nothing to do", " ");
+        assertParseFailure(parser, empty.toString(), String.format(BatchCommandParser.MESSAGE_EMPTY_BATCH, empty));
+    }
+
+    @Test
+    public void parse_invalidLine_throwsParseException() throws IOException {
+        Path unknown = write(ADD_AMY, "", "frobnicate 1");
+        assertParseFailure(parser, unknown.toString(),
+                String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 3, MESSAGE_UNKNOWN_COMMAND));
+
+        Path nested = write(BatchCommand.COMMAND_WORD + " " + unknown);
+        assertParseFailure(parser, nested.toString(),
+                String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 1, BatchCommandParser.MESSAGE_NESTED_BATCH));
+    }
+
+    @Test
+    public void parse_unsupportedCommand_throwsParseException() throws IOException {
+        for (String line : List.of(ExportCommand.COMMAND_WORD + " out.csv", ImportCommand.COMMAND_WORD + " in.csv",
+                ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD,
+                ListCommand.COMMAND_WORD, FindCommand.COMMAND_WORD + " alex",
+                FindTagCommand.COMMAND_WORD + " friends", FindTimeslotCommand.COMMAND_WORD + " 2025-10-12",
+                FilterTimeslotCommand.COMMAND_WORD + " 2025-10-12 1600-1800", FindFreeCommand.COMMAND_WORD + " 60")) {
+            Path file = write(ADD_AMY, line);
+            String commandWord = line.split(" ")[0];
+            assertParseFailure(parser, file.toString(), String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 2,
+                    String.format(BatchCommandParser.MESSAGE_UNSUPPORTED_COMMAND, commandWord)));
+        }
+    }
+
+    private Path write(String... lines) throws IOException {
+        return Files.write(Files.createTempFile(temporaryFolder, "batch", ".txt"), List.of(lines));
+    }
+}
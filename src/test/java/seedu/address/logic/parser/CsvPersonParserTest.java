@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Recurrence;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvPersonParserTest {
+
+    private static final String HEADER = "name,phone,email,address,timeslot,recurrence,availability,tags";
+
+    @Test
+    public void ofHeader_invalidHeader_throwsParseException() {
+        assertThrows(ParseException.class, String.format(CsvPersonParser.MESSAGE_MISSING_COLUMNS, "email, timeslot"),
+                () -> CsvPersonParser.ofHeader("name,phone,address"));
+        assertThrows(ParseException.class, String.format(CsvPersonParser.MESSAGE_UNKNOWN_COLUMN, "Birthday"),
+                () -> CsvPersonParser.ofHeader(HEADER + ", Birthday"));
+        assertThrows(ParseException.class, String.format(CsvPersonParser.MESSAGE_DUPLICATE_COLUMN, "phone"),
+                () -> CsvPersonParser.ofHeader(HEADER + ",Phone"));
+        assertThrows(ParseException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE,
+                () -> CsvPersonParser.ofHeader("\"name,phone"));
+    }
+
+    @Test
+    public void parse_validRow_returnsPerson() throws Exception {
+        CsvPersonParser parser = CsvPersonParser.ofHeader(HEADER);
+        assertEquals(new PersonBuilder().withName("Amy Bee").withPhone("85355255").withEmail("amy@gmail.com")
+                        .withAddress("123, Jurong West Ave 6, #08-111").withTimeSlot("2025-10-01 1600-1800")
+                        .withRecurrence("weekly 2025-12-31").withAvailability("MON 0900-1200", "WED 1400-1800")
+                        .withTags("friends", "owesMoney").build(),
+                parser.parse("Amy Bee, 85355255 ,amy@gmail.com,\"123, Jurong West Ave 6, #08-111\","
+                        + "2025-10-01 1600-1800,weekly 2025-12-31,MON 0900-1200; WED 1400-1800,friends;owesMoney"));
+
+        // optional columns may be left empty or left out, and columns may be in any order
+        assertEquals(new PersonBuilder().withName("Amy Bee").withPhone("85355255").withEmail("amy@gmail.com")
+                        .withAddress("Jurong").withTimeSlot("2025-10-01 1600-1800").withTags().build(),
+                CsvPersonParser.ofHeader("timeslot,address,email,phone,name,tags")
+                        .parse("2025-10-01 1600-1800,Jurong,amy@gmail.com,85355255,Amy Bee,"));
+    }
+
+    @Test
+    public void ofHeader_byteOrderMark_ignored() throws Exception {
+        assertEquals(new PersonBuilder().withName("Amy Bee").withPhone("85355255").withEmail("amy@gmail.com")
+                        .withAddress("Jurong").withTimeSlot("2025-10-01 1600-1800").withTags().build(),
+                CsvPersonParser.ofHeader("\uFEFFname,phone,email,address,timeslot")
+                        .parse("Amy Bee,85355255,amy@gmail.com,Jurong,2025-10-01 1600-1800"));
+
+        // only at the start of the header row
+        assertThrows(ParseException.class, String.format(CsvPersonParser.MESSAGE_UNKNOWN_COLUMN, "\uFEFFname"),
+                () -> CsvPersonParser.ofHeader("phone,\uFEFFname,email,address,timeslot"));
+    }
+
+    @Test
+    public void parse_invalidRow_throwsParseException() throws Exception {
+        CsvPersonParser parser = CsvPersonParser.ofHeader(HEADER);
+        assertThrows(ParseException.class, String.format(CsvPersonParser.MESSAGE_WRONG_FIELD_COUNT, 8, 7),
+                () -> parser.parse("Amy Bee,85355255,amy@gmail.com,Jurong,2025-10-01 1600-1800,,"));
+        assertThrows(ParseException.class, Phone.MESSAGE_CONSTRAINTS,
+                () -> parser.parse("Amy Bee,85a,amy@gmail.com,Jurong,2025-10-01 1600-1800,,,"));
+        assertThrows(ParseException.class, Recurrence.MESSAGE_CONSTRAINTS,
+                () -> parser.parse("Amy Bee,85355255,amy@gmail.com,Jurong,2025-10-01 1600-1800,weekly 2025-09-01,,"));
+    }
+}
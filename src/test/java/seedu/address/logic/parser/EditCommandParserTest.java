@@ -23,8 +23,10 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AVAILABILITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -39,6 +41,8 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.Availability;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
@@ -205,4 +209,45 @@ public class EditCommandParserTest {
 
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_availability_success() {
+        Index targetIndex = INDEX_FIRST_PERSON;
+
+        // several ranges
+        String userInput = targetIndex.getOneBased() + " " + PREFIX_AVAILABILITY + "MON 0900-1200 "
+                + PREFIX_AVAILABILITY + "TUE 1300-1400";
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder()
+                .withAvailability("MON 0900-1200", "TUE 1300-1400").build();
+        assertParseSuccess(parser, userInput, new EditCommand(targetIndex, descriptor));
+
+        // reset
+        userInput = targetIndex.getOneBased() + " " + PREFIX_AVAILABILITY;
+        descriptor = new EditPersonDescriptorBuilder().withAvailability().build();
+        assertParseSuccess(parser, userInput, new EditCommand(targetIndex, descriptor));
+
+        // invalid range
+        userInput = targetIndex.getOneBased() + " " + PREFIX_AVAILABILITY + "MON 0900";
+        assertParseFailure(parser, userInput, Availability.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_recurrence_success() {
+        Index targetIndex = INDEX_FIRST_PERSON;
+
+        String userInput = targetIndex.getOneBased() + " " + PREFIX_RECURRENCE + "biweekly 2025-12-31";
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withRecurrence("biweekly 2025-12-31")
+                .build();
+        assertParseSuccess(parser, userInput, new EditCommand(targetIndex, descriptor));
+
+        // stop repeating
+        userInput = targetIndex.getOneBased() + " " + PREFIX_RECURRENCE;
+        descriptor = new EditPersonDescriptor();
+        descriptor.setRecurrence(Recurrence.NONE);
+        assertParseSuccess(parser, userInput, new EditCommand(targetIndex, descriptor));
+
+        // invalid recurrence
+        userInput = targetIndex.getOneBased() + " " + PREFIX_RECURRENCE + "daily 2025-12-31";
+        assertParseFailure(parser, userInput, Recurrence.MESSAGE_CONSTRAINTS);
+    }
 }
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Format;
+import seedu.address.model.person.TimeslotRangePredicate;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " data/lessons.CSV ",
+                new ExportCommand(Path.of("data/lessons.CSV"), Format.CSV, Optional.empty()));
+
+        TimeslotRangePredicate range = new TimeslotRangePredicate(Optional.of(LocalDate.of(2025, 1, 1)),
+                Optional.empty(), Optional.of(LocalTime.of(9, 0)), Optional.empty());
+        assertParseSuccess(parser, " lessons.ics sd/2025-01-01 st/0900",
+                new ExportCommand(Path.of("lessons.ics"), Format.ICS, Optional.of(range)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " sd/2025-01-01",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " lessons.txt", ExportCommandParser.MESSAGE_UNKNOWN_FORMAT);
+        assertParseFailure(parser, " lessons.csv sd/2025-02-01 ed/2025-01-01",
+                "Start date must be before or on end date.");
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FindFreeCommand;
+
+public class FindFreeCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFreeCommand.MESSAGE_USAGE);
+
+    private FindFreeCommandParser parser = new FindFreeCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFindFreeCommand() {
+        assertParseSuccess(parser, " 1 d/90",
+                new FindFreeCommand(List.of(INDEX_FIRST_PERSON), 90));
+        assertParseSuccess(parser, " \n 1 \t 3  d/ 10080 ",
+                new FindFreeCommand(List.of(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON), 10080));
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        assertParseFailure(parser, " d/90", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 1 2", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidIndex_failure() {
+        assertParseFailure(parser, " 1 a d/90", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 0 d/90", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidDuration_failure() {
+        assertParseFailure(parser, " 1 d/0", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, " 1 d/-30", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, " 1 d/10081", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, " 1 d/1h", ParserUtil.MESSAGE_INVALID_DURATION);
+    }
+
+    @Test
+    public void parse_repeatedDuration_failure() {
+        assertParseFailure(parser, " 1 d/30 d/60",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_DURATION));
+    }
+}
@@ -11,11 +11,13 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -97,6 +99,32 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void suspendFilterUpdates_updatesHeldBackUntilResumedOrRead() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        List<Person> filteredPersons = modelManager.getFilteredPersonList();
+
+        modelManager.suspendFilterUpdates();
+        modelManager.updateFilteredPersonList(person -> person.equals(ALICE));
+        assertEquals(List.of(ALICE, BENSON), filteredPersons);
+        assertTrue(modelManager.getFilteredPersonPredicate().test(ALICE));
+        assertFalse(modelManager.getFilteredPersonPredicate().test(BENSON));
+
+        // reading the list applies the held back update
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(person -> person.equals(BENSON));
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(ALICE), filteredPersons);
+        modelManager.resumeFilterUpdates();
+        assertEquals(List.of(ALICE, BENSON), filteredPersons);
+
+        // no longer held back
+        modelManager.updateFilteredPersonList(person -> person.equals(BENSON));
+        assertEquals(List.of(BENSON), filteredPersons);
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
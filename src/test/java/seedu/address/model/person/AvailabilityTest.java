@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.timesheet.AvailabilityMask;
+import seedu.address.model.person.timesheet.WeekIndex;
+
+public class AvailabilityTest {
+
+    @Test
+    public void constructor_wrongMaskSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Availability(AvailabilityMask.empty(10)));
+    }
+
+    @Test
+    public void isValidRange() {
+        // invalid ranges
+        assertFalse(Availability.isValidRange(null));
+        assertFalse(Availability.isValidRange(""));
+        assertFalse(Availability.isValidRange("MON")); // no times
+        assertFalse(Availability.isValidRange("MONDAY 0900-1000")); // full day name
+        assertFalse(Availability.isValidRange("XYZ 0900-1000")); // not a day
+        assertFalse(Availability.isValidRange("MON 0915-1000")); // not on the half hour
+        assertFalse(Availability.isValidRange("MON 1000-1000")); // empty
+        assertFalse(Availability.isValidRange("MON 1000-0900")); // end before start
+        assertFalse(Availability.isValidRange("MON 2300-2430")); // past the end of the day
+
+        // valid ranges
+        assertTrue(Availability.isValidRange("MON 0900-1230"));
+        assertTrue(Availability.isValidRange("sun 0000-2400"));
+        assertTrue(Availability.isValidRange(" Wed 1330-1400 "));
+    }
+
+    @Test
+    public void fromRanges_overlappingRanges_merged() {
+        Availability availability = Availability.fromRanges(List.of("TUE 1000-1200", "TUE 0900-1100", "MON 0900-1000"));
+        assertEquals(List.of("MON 0900-1000", "TUE 0900-1200"), availability.toRanges());
+        assertEquals("MON 0900-1000, TUE 0900-1200", availability.toString());
+    }
+
+    @Test
+    public void fromRanges_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, Availability.MESSAGE_CONSTRAINTS, () ->
+                Availability.fromRanges(List.of("MON 0900-1000", "MON 0900")));
+    }
+
+    @Test
+    public void toRanges_pastMidnight_splitByDay() {
+        Availability availability = Availability.fromRanges(List.of("MON 2200-2400", "TUE 0000-0200"));
+        assertEquals(List.of("MON 2200-2400", "TUE 0000-0200"), availability.toRanges());
+        assertEquals(Availability.fromRanges(availability.toRanges()), availability);
+    }
+
+    @Test
+    public void formatRange() {
+        assertEquals("MON 0900-1230", Availability.formatRange(18, 25));
+        assertEquals("MON 2200-TUE 0200", Availability.formatRange(44, 52));
+        assertEquals("SUN 2330-2400", Availability.formatRange(WeekIndex.BINS_PER_WEEK - 1,
+                WeekIndex.BINS_PER_WEEK));
+    }
+
+    @Test
+    public void getMask_modified_availabilityUnchanged() {
+        Availability availability = Availability.fromRanges(List.of("MON 0900-1000"));
+        availability.getMask().setRange(0, 10, true);
+        assertEquals(List.of("MON 0900-1000"), availability.toRanges());
+    }
+
+    @Test
+    public void isEmpty() {
+        assertTrue(Availability.NONE.isEmpty());
+        assertTrue(Availability.fromRanges(List.of()).isEmpty());
+        assertFalse(Availability.fromRanges(List.of("FRI 1200-1300")).isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        Availability availability = Availability.fromRanges(List.of("MON 0900-1000"));
+
+        // same values -> returns true
+        assertTrue(availability.equals(Availability.fromRanges(List.of("mon 0900-1000"))));
+
+        // same object -> returns true
+        assertTrue(availability.equals(availability));
+
+        // null -> returns false
+        assertFalse(availability.equals(null));
+
+        // different types -> returns false
+        assertFalse(availability.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(availability.equals(Availability.NONE));
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonDateIndexTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 10, 1);
+
+    private final PersonDateIndex index = new PersonDateIndex();
+
+    @Test
+    public void findInRange_unbounded_returnsAllOrderedByTimeSlot() {
+        Person late = new PersonBuilder().withName("Late").withTimeSlot("2025-10-02 1400-1500").build();
+        Person early = new PersonBuilder().withName("Early").withTimeSlot("2025-10-02 0900-1000").build();
+        Person earlierDate = new PersonBuilder().withName("Earlier").withTimeSlot("2025-10-01 1600-1700").build();
+        index.add(late);
+        index.add(early);
+        index.add(earlierDate);
+
+        assertEquals(List.of(earlierDate, early, late), findInRange(null, null, null, null));
+    }
+
+    @Test
+    public void findInRange_startDateAfterEndDate_returnsEmpty() {
+        index.add(new PersonBuilder().build());
+        assertTrue(findInRange(LocalDate.of(2025, 10, 13), LocalDate.of(2025, 10, 11), null, null).isEmpty());
+    }
+
+    @Test
+    public void findInRange_touchingTimes_included() {
+        // 1600-1800, the same as TimeslotRangePredicate, which includes the endpoints
+        Person person = new PersonBuilder().build();
+        index.add(person);
+
+        assertEquals(List.of(person), findInRange(null, null, LocalTime.of(18, 0), null));
+        assertEquals(List.of(person), findInRange(null, null, null, LocalTime.of(16, 0)));
+        assertTrue(findInRange(null, null, LocalTime.of(18, 1), null).isEmpty());
+        assertTrue(findInRange(null, null, null, LocalTime.of(15, 59)).isEmpty());
+    }
+
+    @Test
+    public void remove_lastPersonOnDate_notFound() {
+        Person person = new PersonBuilder().build();
+        index.add(person);
+        index.remove(person);
+        index.remove(person);
+
+        assertTrue(findInRange(null, null, null, null).isEmpty());
+    }
+
+    @Test
+    public void add_noTimeSlot_notIndexed() {
+        Person person = new Person(new Name("No Slot"), new Phone("12345678"), new Email("a@example.com"),
+                new Address("Somewhere"), null, new HashSet<>());
+        index.add(person);
+        index.remove(person);
+
+        assertTrue(findInRange(null, null, null, null).isEmpty());
+    }
+
+    @Test
+    public void getOn_recurringPerson_foundOnOccurrencesOnly() {
+        Person weekly = new PersonBuilder().withName("Weekly").withTimeSlot("2025-10-01 1000-1100")
+                .withRecurrence("weekly 2025-10-22").build();
+        Person oneOff = new PersonBuilder().withName("One Off").withTimeSlot("2025-10-15 0900-1000").build();
+        index.add(weekly);
+        index.add(oneOff);
+
+        assertEquals(List.of(weekly), index.getOn(LocalDate.of(2025, 10, 1)));
+        assertEquals(List.of(oneOff, weekly), index.getOn(LocalDate.of(2025, 10, 15)));
+        assertEquals(List.of(weekly), index.getOn(LocalDate.of(2025, 10, 22)));
+        assertTrue(index.getOn(LocalDate.of(2025, 10, 2)).isEmpty());
+        assertTrue(index.getOn(LocalDate.of(2025, 10, 29)).isEmpty());
+
+        index.remove(weekly);
+        assertTrue(index.getOn(LocalDate.of(2025, 10, 22)).isEmpty());
+    }
+
+    @Test
+    public void findInRange_recurringPerson_orderedByMatchingOccurrence() {
+        Person biweekly = new PersonBuilder().withName("Biweekly").withTimeSlot("2025-09-03 0900-1000")
+                .withRecurrence("biweekly 2025-12-31").build();
+        Person oneOff = new PersonBuilder().withName("One Off").withTimeSlot("2025-10-10 0900-1000").build();
+        index.add(biweekly);
+        index.add(oneOff);
+
+        // the biweekly slot next occurs on 2025-10-15, after the one-off slot
+        assertEquals(List.of(oneOff, biweekly), findInRange(LocalDate.of(2025, 10, 2), null, null, null));
+        // but not from 2025-10-16 to 2025-10-28
+        assertEquals(List.of(), findInRange(LocalDate.of(2025, 10, 16), LocalDate.of(2025, 10, 28), null, null));
+    }
+
+    @Test
+    public void findInRange_randomPersons_sameAsPredicate() {
+        Random random = new Random(42);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            persons.add(randomPerson(random, i));
+        }
+        index.setAll(persons);
+        // removing persons must keep the rest of their date in order
+        for (int i = 0; i < 100; i++) {
+            index.remove(persons.remove(random.nextInt(persons.size())));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            Optional<LocalDate> startDate = random.nextBoolean() ? Optional.of(randomDate(random)) : Optional.empty();
+            Optional<LocalDate> endDate = random.nextBoolean() ? Optional.of(randomDate(random)) : Optional.empty();
+            Optional<LocalTime> startTime = random.nextBoolean() ? Optional.of(randomTime(random)) : Optional.empty();
+            Optional<LocalTime> endTime = random.nextBoolean() ? Optional.of(randomTime(random)) : Optional.empty();
+            TimeslotRangePredicate predicate = new TimeslotRangePredicate(startDate, endDate, startTime, endTime);
+
+            List<Person> expected = persons.stream().filter(predicate).collect(Collectors.toList());
+            List<Person> actual = index.findInRange(startDate, endDate, startTime, endTime);
+            assertEquals(expected.size(), actual.size(), predicate.toString());
+            assertEquals(new HashSet<>(expected), new HashSet<>(actual), predicate.toString());
+        }
+    }
+
+    private List<Person> findInRange(LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime) {
+        return index.findInRange(Optional.ofNullable(startDate), Optional.ofNullable(endDate),
+                Optional.ofNullable(startTime), Optional.ofNullable(endTime));
+    }
+
+    private static Person randomPerson(Random random, int id) {
+        LocalTime start = LocalTime.of(random.nextInt(20), random.nextInt(4) * 15);
+        LocalTime end = start.plusMinutes(30 + random.nextInt(8) * 15);
+        LocalDate date = randomDate(random);
+        PersonBuilder builder = new PersonBuilder().withName("Person " + id)
+                .withTimeSlot(new TimeSlot(date, start, end).toString());
+        if (random.nextInt(4) == 0) {
+            String interval = random.nextBoolean() ? "weekly " : "biweekly ";
+            builder.withRecurrence(interval + date.plusDays(random.nextInt(30)));
+        }
+        return builder.build();
+    }
+
+    private static LocalDate randomDate(Random random) {
+        return FIRST_DATE.plusDays(random.nextInt(20));
+    }
+
+    private static LocalTime randomTime(Random random) {
+        return LocalTime.of(random.nextInt(24), random.nextInt(60));
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonStartTimeIndexTest {
+
+    private static final Person MORNING = new PersonBuilder().withName("Morning")
+            .withTimeSlot("2025-10-12 0900-1000").build();
+    private static final Person OTHER_MORNING = new PersonBuilder().withName("Other Morning")
+            .withTimeSlot("2025-10-13 0900-1100").build();
+    private static final Person AFTERNOON = new PersonBuilder().withName("Afternoon")
+            .withTimeSlot("2025-10-12 1400-1500").build();
+
+    private final PersonStartTimeIndex index = new PersonStartTimeIndex();
+
+    @Test
+    public void getStartingAt_indexedTimes_returnsPersonsStartingThen() {
+        index.setAll(List.of(MORNING, OTHER_MORNING, AFTERNOON));
+
+        assertEquals(Set.of(MORNING, OTHER_MORNING), new HashSet<>(index.getStartingAt(LocalTime.of(9, 0))));
+        assertEquals(Set.of(AFTERNOON), new HashSet<>(index.getStartingAt(LocalTime.of(14, 0))));
+        assertTrue(index.getStartingAt(LocalTime.of(10, 0)).isEmpty());
+    }
+
+    @Test
+    public void remove_lastPersonAtTime_notFound() {
+        index.add(MORNING);
+        index.add(AFTERNOON);
+        index.remove(MORNING);
+        index.remove(MORNING);
+
+        assertTrue(index.getStartingAt(LocalTime.of(9, 0)).isEmpty());
+        assertEquals(Set.of(AFTERNOON), new HashSet<>(index.getStartingAt(LocalTime.of(14, 0))));
+    }
+}
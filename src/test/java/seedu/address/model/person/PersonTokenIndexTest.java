@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTokenIndexTest {
+
+    private static final String[] WORDS = {"Alice", "alicia", "Bob", "BOBBY", "Carl", "Ann", "Annabel", "Lee", "Tan"};
+    private static final String[] KEYWORDS = {"ali", "ALICE", "b", "bobb", "an", "nn", "e", "tan", "zed", "ARL"};
+
+    @Test
+    public void findContainingAny_nameWords_matchesPartialWordsIgnoringCase() {
+        PersonTokenIndex index = PersonTokenIndex.ofNameWords();
+        index.setAll(getTypicalPersons());
+
+        // ALICE is Alice Pauline, BENSON is Benson Meier
+        assertEquals(Set.of(ALICE), new HashSet<>(index.findContainingAny(List.of("PAUL"))));
+        assertEquals(Set.of(ALICE, BENSON), new HashSet<>(index.findContainingAny(List.of("pauline", "benson"))));
+        assertTrue(index.findContainingAny(List.of("alicepauline")).isEmpty());
+        assertTrue(index.findContainingAny(List.of()).isEmpty());
+    }
+
+    @Test
+    public void remove_personWithRepeatedWord_removedFromEveryWord() {
+        PersonTokenIndex index = PersonTokenIndex.ofNameWords();
+        Person person = new PersonBuilder().withName("Ann ann Lee").build();
+        index.add(person);
+        index.remove(person);
+
+        assertTrue(index.findContainingAny(List.of("ann", "lee")).isEmpty());
+    }
+
+    @Test
+    public void findContainingAny_randomPersons_sameAsPredicates() {
+        Random random = new Random(7);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            persons.add(new PersonBuilder()
+                    .withName(randomWord(random) + " " + randomWord(random) + " " + i)
+                    .withTags(randomWord(random), randomWord(random))
+                    .build());
+        }
+        PersonTokenIndex nameIndex = PersonTokenIndex.ofNameWords();
+        PersonTokenIndex tagIndex = PersonTokenIndex.ofTagNames();
+        nameIndex.setAll(persons);
+        tagIndex.setAll(persons);
+        for (int i = 0; i < 60; i++) {
+            Person removed = persons.remove(random.nextInt(persons.size()));
+            nameIndex.remove(removed);
+            tagIndex.remove(removed);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            List<String> keywords = List.of(KEYWORDS[random.nextInt(KEYWORDS.length)],
+                    KEYWORDS[random.nextInt(KEYWORDS.length)]);
+            assertEquals(persons.stream().filter(new NameContainsKeywordsPredicate(keywords))
+                    .collect(Collectors.toSet()), new HashSet<>(nameIndex.findContainingAny(keywords)));
+            assertEquals(persons.stream().filter(new TagContainsKeywordsPredicate(keywords))
+                    .collect(Collectors.toSet()), new HashSet<>(tagIndex.findContainingAny(keywords)));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class RecurrenceTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2025, 10, 1);
+
+    @Test
+    public void constructor_invalidRecurrence_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new Recurrence(null));
+        assertThrows(IllegalArgumentException.class, () -> new Recurrence("monthly 2025-12-31"));
+        assertThrows(IllegalArgumentException.class, () -> new Recurrence(3, FIRST));
+    }
+
+    @Test
+    public void isValidRecurrence() {
+        // invalid recurrences
+        assertFalse(Recurrence.isValidRecurrence(null));
+        assertFalse(Recurrence.isValidRecurrence(""));
+        assertFalse(Recurrence.isValidRecurrence("weekly")); // no until-date
+        assertFalse(Recurrence.isValidRecurrence("daily 2025-12-31")); // not an interval
+        assertFalse(Recurrence.isValidRecurrence("weekly 2025-02-30")); // not a date
+        assertFalse(Recurrence.isValidRecurrence("weekly 2025-12-31 extra"));
+
+        // valid recurrences
+        assertTrue(Recurrence.isValidRecurrence("weekly 2025-12-31"));
+        assertTrue(Recurrence.isValidRecurrence(" BIWEEKLY   2026-01-01 "));
+    }
+
+    @Test
+    public void isValidFrom() {
+        assertTrue(new Recurrence("weekly 2025-10-01").isValidFrom(FIRST));
+        assertFalse(new Recurrence("weekly 2025-09-30").isValidFrom(FIRST));
+        assertTrue(Recurrence.NONE.isValidFrom(FIRST));
+    }
+
+    @Test
+    public void occursOn() {
+        Recurrence biweekly = new Recurrence("biweekly 2025-10-29");
+        assertTrue(biweekly.occursOn(FIRST, FIRST));
+        assertTrue(biweekly.occursOn(FIRST, LocalDate.of(2025, 10, 15)));
+        assertTrue(biweekly.occursOn(FIRST, LocalDate.of(2025, 10, 29)));
+        assertFalse(biweekly.occursOn(FIRST, LocalDate.of(2025, 10, 8))); // off week
+        assertFalse(biweekly.occursOn(FIRST, LocalDate.of(2025, 9, 17))); // before the first
+        assertFalse(biweekly.occursOn(FIRST, LocalDate.of(2025, 11, 12))); // after the until-date
+
+        assertTrue(Recurrence.NONE.occursOn(FIRST, FIRST));
+        assertFalse(Recurrence.NONE.occursOn(FIRST, FIRST.plusWeeks(1)));
+    }
+
+    @Test
+    public void lastDate() {
+        // the until-date need not be an occurrence
+        assertEquals(LocalDate.of(2025, 10, 22), new Recurrence("weekly 2025-10-28").lastDate(FIRST));
+        assertEquals(LocalDate.of(2025, 10, 15), new Recurrence("biweekly 2025-10-28").lastDate(FIRST));
+        assertEquals(FIRST, Recurrence.NONE.lastDate(FIRST));
+    }
+
+    @Test
+    public void firstOnOrAfter() {
+        Recurrence weekly = new Recurrence("weekly 2025-10-22");
+        assertEquals(Optional.of(FIRST), weekly.firstOnOrAfter(FIRST, LocalDate.of(2025, 9, 1)));
+        assertEquals(Optional.of(LocalDate.of(2025, 10, 8)), weekly.firstOnOrAfter(FIRST, LocalDate.of(2025, 10, 2)));
+        assertEquals(Optional.of(LocalDate.of(2025, 10, 22)), weekly.firstOnOrAfter(FIRST, LocalDate.of(2025, 10, 22)));
+        assertEquals(Optional.empty(), weekly.firstOnOrAfter(FIRST, LocalDate.of(2025, 10, 23)));
+
+        assertEquals(Optional.of(FIRST), Recurrence.NONE.firstOnOrAfter(FIRST, FIRST));
+        assertEquals(Optional.empty(), Recurrence.NONE.firstOnOrAfter(FIRST, FIRST.plusDays(1)));
+    }
+
+    @Test
+    public void occurrences() {
+        TimeSlot first = new TimeSlot("2025-10-01 1000-1100");
+        assertEquals(List.of(first, new TimeSlot("2025-10-15 1000-1100")),
+                new Recurrence("biweekly 2025-10-28").occurrences(first).collect(Collectors.toList()));
+        assertEquals(List.of(first), Recurrence.NONE.occurrences(first).collect(Collectors.toList()));
+
+        // occurrences are created lazily, so even a long rule can be probed cheaply
+        assertEquals(Optional.of(first), new Recurrence("weekly 9999-12-31").occurrences(first).findFirst());
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("weekly 2025-12-31", new Recurrence("WEEKLY 2025-12-31").toString());
+        assertEquals("biweekly 2025-12-31", new Recurrence(2, LocalDate.of(2025, 12, 31)).toString());
+        assertEquals("none", Recurrence.NONE.toString());
+    }
+
+    @Test
+    public void equals() {
+        Recurrence recurrence = new Recurrence("weekly 2025-12-31");
+
+        // same values -> returns true
+        assertTrue(recurrence.equals(new Recurrence(1, LocalDate.of(2025, 12, 31))));
+
+        // same object -> returns true
+        assertTrue(recurrence.equals(recurrence));
+
+        // null -> returns false
+        assertFalse(recurrence.equals(null));
+
+        // different types -> returns false
+        assertFalse(recurrence.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(recurrence.equals(new Recurrence("biweekly 2025-12-31")));
+        assertFalse(recurrence.equals(new Recurrence("weekly 2025-12-30")));
+
+        // every recurrence that does not repeat is NONE
+        assertEquals(Recurrence.NONE, new Recurrence(0, FIRST));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -94,4 +95,33 @@ public class TimeslotRangePredicateTest {
                 Optional.of(LocalTime.of(10, 30)), Optional.of(LocalTime.of(12, 0)));
         assertTrue(predicate.test(PERSON_IN_RANGE));
     }
+
+    @Test
+    public void test_recurringTimeslot_matchesAnyOccurrence() {
+        // 2025-10-01 10:00-11:00, every two weeks up to 2025-10-31, i.e. also on 10-15 and 10-29
+        Person biweekly = new PersonBuilder().withTimeSlot("2025-10-01 1000-1100")
+                .withRecurrence("biweekly 2025-10-31").build();
+
+        TimeslotRangePredicate predicate = new TimeslotRangePredicate(
+                Optional.of(DATE_1), Optional.of(DATE_2), Optional.empty(), Optional.empty());
+        assertFalse(predicate.test(biweekly)); // off week
+
+        predicate = new TimeslotRangePredicate(
+                Optional.of(LocalDate.of(2025, 10, 14)), Optional.of(LocalDate.of(2025, 10, 15)),
+                Optional.of(TIME_1), Optional.of(TIME_2));
+        assertTrue(predicate.test(biweekly));
+        assertEquals(Optional.of(LocalDate.of(2025, 10, 15)),
+                predicate.matchingDate(LocalDate.of(2025, 10, 1), biweekly.getRecurrence()));
+
+        // an occurrence on the date, but not at the time
+        predicate = new TimeslotRangePredicate(
+                Optional.of(LocalDate.of(2025, 10, 15)), Optional.empty(),
+                Optional.of(LocalTime.of(11, 30)), Optional.empty());
+        assertFalse(predicate.test(biweekly));
+
+        // after the last occurrence
+        predicate = new TimeslotRangePredicate(
+                Optional.of(LocalDate.of(2025, 10, 30)), Optional.empty(), Optional.empty(), Optional.empty());
+        assertFalse(predicate.test(biweekly));
+    }
 }
@@ -78,6 +78,37 @@ public class TimeslotStartTimeContainsKeywordsPredicateTest {
 
         assertFalse(predicate.test(person));
     }
-}
 
+    @Test
+    public void test_timeWithColon_returnsTrue() {
+        var predicate = new TimeslotStartTimeContainsKeywordsPredicate(Collections.singletonList("08:00"));
+        Person person = new PersonBuilder()
+                .withTimeSlot("2025-10-13 0800-0900")
+                .build();
+
+        assertTrue(predicate.test(person));
+    }
+
+    @Test
+    public void test_invalidDateAndMatchingTime_returnsFalse() {
+        // the invalid date still counts as a date keyword, so the date must match too
+        var predicate = new TimeslotStartTimeContainsKeywordsPredicate(Arrays.asList("2025-13-45", "0800"));
+        Person person = new PersonBuilder()
+                .withTimeSlot("2025-10-13 0800-0900")
+                .build();
+
+        assertFalse(predicate.test(person));
+        assertTrue(predicate.getDates().isEmpty());
+        assertTrue(predicate.isDateAndTimeRequired());
+    }
+
+    @Test
+    public void test_timeNotWrittenAsHhmm_returnsFalse() {
+        var predicate = new TimeslotStartTimeContainsKeywordsPredicate(Arrays.asList("800", "8:00", "2025-10-013"));
+        Person person = new PersonBuilder()
+                .withTimeSlot("2025-10-13 0800-0900")
+                .build();
 
+        assertFalse(predicate.test(person));
+    }
+}
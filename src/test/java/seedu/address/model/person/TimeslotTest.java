@@ -22,6 +22,18 @@ public class TimeslotTest {
         assertEquals("2025-10-12 0800-0900", slot.toString());
     }
 
+    @Test
+    public void constructor_dateAndTimes_sameAsParsed() {
+        TimeSlot slot = new TimeSlot(LocalDate.of(2025, 10, 12), LocalTime.of(8, 0), LocalTime.of(9, 0));
+        assertEquals(new TimeSlot("2025-10-12 0800-0900"), slot);
+        assertEquals("2025-10-12 0800-0900", slot.value);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                new TimeSlot(LocalDate.of(2025, 10, 12), LocalTime.of(8, 0), LocalTime.of(8, 10)));
+        assertThrows(NullPointerException.class, () ->
+                new TimeSlot(null, LocalTime.of(8, 0), LocalTime.of(9, 0)));
+    }
+
     @Test
     public void constructor_invalidFormat_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () -> new TimeSlot("2025/10/12 0800-0900"));
@@ -69,6 +81,55 @@ public class TimeslotTest {
         assertNotEquals(slot1, slot2);
     }
 
+    @Test
+    public void constructor_timesWithSeconds_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new TimeSlot(LocalDate.of(2025, 10, 12), LocalTime.of(8, 0, 30), LocalTime.of(9, 0)));
+    }
+
+    @Test
+    public void decode_encodedSlot_returnsEqualSlot() {
+        for (String value : new String[] {"2025-10-12 0800-0900", "1969-12-31 0000-2359", "9999-12-31 2300-2359"}) {
+            TimeSlot slot = new TimeSlot(value);
+            assertEquals(slot, TimeSlot.decode(slot.encode()));
+            assertEquals(value, TimeSlot.decode(slot.encode()).toString());
+        }
+    }
+
+    @Test
+    public void compareTo_encodedOrder_sameAsDateThenStartThenEnd() {
+        TimeSlot[] ordered = {
+            new TimeSlot("1969-12-31 2300-2359"),
+            new TimeSlot("2025-10-11 2300-2330"),
+            new TimeSlot("2025-10-12 0800-0830"),
+            new TimeSlot("2025-10-12 0800-0900"),
+            new TimeSlot("2025-10-12 0801-0835")
+        };
+        for (int i = 0; i + 1 < ordered.length; i++) {
+            assertTrue(ordered[i].compareTo(ordered[i + 1]) < 0);
+            assertTrue(ordered[i].encode() < ordered[i + 1].encode());
+            assertTrue(ordered[i + 1].compareTo(ordered[i]) > 0);
+        }
+        assertEquals(0, ordered[2].compareTo(new TimeSlot("2025-10-12 0800-0830")));
+    }
+
+    @Test
+    public void overlaps() {
+        TimeSlot slot = new TimeSlot("2025-10-12 0800-0900");
+
+        // touching -> returns true
+        assertTrue(slot.overlaps(new TimeSlot("2025-10-12 0900-1000")));
+        assertTrue(slot.overlaps(new TimeSlot("2025-10-12 0700-0800")));
+        // nested -> returns true
+        assertTrue(slot.overlaps(new TimeSlot("2025-10-12 0700-1000")));
+        // disjoint -> returns false
+        assertFalse(slot.overlaps(new TimeSlot("2025-10-12 0901-1000")));
+        // same times on another date -> returns false
+        assertFalse(slot.overlaps(new TimeSlot("2025-10-13 0800-0900")));
+        // end of one day and start of the next -> returns false
+        assertFalse(new TimeSlot("2025-10-12 2300-2359").overlaps(new TimeSlot("2025-10-13 0000-0100")));
+    }
+
     @Test
     public void toString_validSlot_matchesExpectedFormat() {
         TimeSlot slot = new TimeSlot("2025-10-12 0800-0900");
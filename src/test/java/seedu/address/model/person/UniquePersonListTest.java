@@ -7,11 +7,17 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -58,6 +64,25 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addsThemInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(List.of(BOB, BENSON));
+        assertEquals(List.of(ALICE, BOB, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, BOB)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, ALICE)));
+
+        // nothing is added if any person is a duplicate
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -162,6 +187,101 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void contains_afterRemoveAndEdit_tracksIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void getVersion_modifications_incrementsVersion() {
+        long version = uniquePersonList.getVersion();
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.getVersion() > version);
+
+        version = uniquePersonList.getVersion();
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertTrue(uniquePersonList.getVersion() > version);
+
+        version = uniquePersonList.getVersion();
+        uniquePersonList.contains(BOB);
+        uniquePersonList.asUnmodifiableObservableList();
+        assertEquals(version, uniquePersonList.getVersion());
+
+        uniquePersonList.remove(BOB);
+        assertTrue(uniquePersonList.getVersion() > version);
+
+        version = uniquePersonList.getVersion();
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertTrue(uniquePersonList.getVersion() > version);
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_keepsExistingList() {
+        uniquePersonList.add(BOB);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPersons_largeList_replacesOwnList() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        uniquePersonList.setPersons(persons);
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(new PersonBuilder().withName("Person 49999").build()));
+    }
+
+    @Test
+    public void getPersonsInRange_afterEdits_followsList() {
+        Person movedBob = new PersonBuilder(BOB).withTimeSlot("2025-10-20 0900-1000").build();
+        TimeslotRangePredicate onTwentieth = new TimeslotRangePredicate(Optional.of(LocalDate.of(2025, 10, 20)),
+                Optional.of(LocalDate.of(2025, 10, 20)), Optional.empty(), Optional.empty());
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPerson(BOB, movedBob);
+        assertEquals(List.of(movedBob), uniquePersonList.getPersonsInRange(onTwentieth));
+
+        uniquePersonList.remove(movedBob);
+        assertTrue(uniquePersonList.getPersonsInRange(onTwentieth).isEmpty());
+
+        uniquePersonList.setPersons(List.of(movedBob));
+        assertEquals(List.of(movedBob), uniquePersonList.getPersonsInRange(onTwentieth));
+    }
+
+    @Test
+    public void getPersonsWithTimeslotStart_variousKeywords_sameAsPredicate() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i)
+                    .withTimeSlot(String.format("2025-10-%02d %02d00-%02d00", 10 + i % 4, 8 + i % 5, 9 + i % 5))
+                    .build());
+        }
+        uniquePersonList.setPersons(persons);
+        uniquePersonList.remove(persons.remove(0));
+
+        List<List<String>> keywordLists = List.of(List.of("2025-10-11"), List.of("0900", "10:00"),
+                List.of("2025-10-12", "1100"), List.of("2025-10-12", "2025-10-13", "0800", "1200"),
+                List.of("2025-10-99", "0900"), List.of("nonsense"));
+        for (List<String> keywords : keywordLists) {
+            TimeslotStartTimeContainsKeywordsPredicate predicate =
+                    new TimeslotStartTimeContainsKeywordsPredicate(keywords);
+            assertEquals(persons.stream().filter(predicate).collect(Collectors.toSet()),
+                    new HashSet<>(uniquePersonList.getPersonsWithTimeslotStart(predicate)), keywords.toString());
+        }
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,104 @@
+package seedu.address.model.person.timesheet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AvailabilityMaskCodec}.
+ */
+public class AvailabilityMaskCodecTest {
+
+    private static final int WEEK = WeekIndex.BINS_PER_WEEK;
+
+    @Test
+    void encode_fewRuns_encodedAsRuns() {
+        AvailabilityMask mask = new AvailabilityMask(WEEK);
+        // Monday 0900-1200
+        mask.setRange(18, 24, true);
+
+        assertEquals("R1:336:i.6", AvailabilityMaskCodec.encode(mask));
+        assertEquals("R1:336:", AvailabilityMaskCodec.encode(new AvailabilityMask(WEEK)));
+        mask.setRange(0, WEEK, true);
+        assertEquals("R1:336:0", AvailabilityMaskCodec.encode(mask));
+    }
+
+    @Test
+    void encode_manyRuns_encodedAsWords() {
+        AvailabilityMask mask = new AvailabilityMask(WEEK);
+        for (int i = 0; i < WEEK; i += 2) {
+            mask.set(i, true);
+        }
+
+        String encoded = AvailabilityMaskCodec.encode(mask);
+        assertTrue(encoded.startsWith(AvailabilityMaskCodec.WORDS_PREFIX));
+        assertEquals(AvailabilityMaskCodec.WORDS_PREFIX.length() + "336:".length() + 56, encoded.length());
+        assertEquals(mask, AvailabilityMaskCodec.decode(encoded, WEEK));
+    }
+
+    @Test
+    void encode_typicalWeek_muchShorterThanBinaryString() {
+        AvailabilityMask mask = new AvailabilityMask(WEEK);
+        for (int day = 0; day < 5; day++) {
+            int dayStart = day * WeekIndex.BINS_PER_DAY;
+            mask.setRange(dayStart + 18, dayStart + 24, true);
+            mask.setRange(dayStart + 28, dayStart + 36, true);
+        }
+
+        String encoded = AvailabilityMaskCodec.encode(mask);
+        assertTrue(encoded.length() * 5 < mask.toBinaryString().length(), encoded);
+        assertEquals(mask, AvailabilityMaskCodec.decode(encoded, WEEK));
+    }
+
+    @Test
+    void decode_binaryString_decodedAsBefore() {
+        assertEquals(AvailabilityMask.fromBinaryString("0110"), AvailabilityMaskCodec.decode("0110", 4));
+    }
+
+    @Test
+    void decode_randomMasks_roundTripBothEncodings() {
+        Random random = new Random(11);
+        for (int round = 0; round < 200; round++) {
+            int size = 1 + random.nextInt(WEEK);
+            AvailabilityMask mask = new AvailabilityMask(size);
+            for (int i = random.nextInt(20); i > 0; i--) {
+                int from = random.nextInt(size);
+                mask.setRange(from, from + random.nextInt(size - from + 1), random.nextBoolean());
+            }
+
+            assertEquals(mask, AvailabilityMaskCodec.decode(AvailabilityMaskCodec.encodeRuns(mask), size));
+            assertEquals(mask, AvailabilityMaskCodec.decode(AvailabilityMaskCodec.encodeWords(mask), size));
+        }
+    }
+
+    @Test
+    void decode_invalidEncoding_throwsIllegalArgumentException() {
+        // unknown prefix
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMaskCodec.decode("X1:336:", WEEK));
+        // missing size
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMaskCodec.decode("R1:336", WEEK));
+        // runs longer than the mask
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMaskCodec.decode("R1:10:5.6", 10));
+        // negative run
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMaskCodec.decode("R1:10:-1", 10));
+        // words for a different size
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMaskCodec.decode("W1:10:AAAA", 10));
+        // bits past the size
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMaskCodec.decode("W1:4:/w", 4));
+    }
+
+    @Test
+    void decode_unexpectedSize_throwsIllegalArgumentException() {
+        // checked before a mask of that size is created
+        assertThrows(IllegalArgumentException.class, () ->
+                AvailabilityMaskCodec.decode("R1:" + Integer.MAX_VALUE + ":", WEEK));
+        assertThrows(IllegalArgumentException.class, () ->
+                AvailabilityMaskCodec.decode("W1:" + Integer.MAX_VALUE + ":AAAA", WEEK));
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMaskCodec.decode("R1:335:", WEEK));
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMaskCodec.decode("0110", WEEK));
+    }
+}
@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -118,5 +121,134 @@ public class AvailabilityMaskTest {
         assertEquals(5, emptyMask.size());
         assertEquals(0, emptyMask.cardinality());
     }
-}
 
+    @Test
+    void and_keepsCommonSlots() {
+        mask.setRange(2, 6, true);
+        AvailabilityMask other = new AvailabilityMask(10);
+        other.setRange(4, 9, true);
+
+        mask.and(other);
+        assertEquals("0000110000", mask.toBinaryString());
+        assertThrows(IllegalArgumentException.class, () -> mask.and(new AvailabilityMask(11)));
+    }
+
+    @Test
+    void copy_changedIndependently() {
+        mask.set(1, true);
+        AvailabilityMask copy = mask.copy();
+        copy.set(2, true);
+
+        assertEquals(mask, AvailabilityMask.fromBinaryString("0100000000"));
+        assertEquals(copy, AvailabilityMask.fromBinaryString("0110000000"));
+    }
+
+    @Test
+    void nextAvailableAndUnavailable_findRuns() {
+        mask.setRange(3, 5, true);
+        mask.setRange(8, 10, true);
+
+        assertEquals(3, mask.nextAvailable(0));
+        assertEquals(5, mask.nextUnavailable(3));
+        assertEquals(8, mask.nextAvailable(5));
+        assertEquals(10, mask.nextUnavailable(8));
+        assertEquals(-1, AvailabilityMask.empty(10).nextAvailable(0));
+    }
+
+    @Test
+    void toLongArray_andFromLongArray_roundTripWorks() {
+        AvailabilityMask large = new AvailabilityMask(WeekIndex.BINS_PER_WEEK);
+        large.set(0, true);
+        large.setRange(63, 65, true);
+        large.set(WeekIndex.BINS_PER_WEEK - 1, true);
+
+        long[] words = large.toLongArray();
+        assertEquals(6, words.length);
+        assertEquals(large, AvailabilityMask.fromLongArray(WeekIndex.BINS_PER_WEEK, words));
+
+        // bits past the size of the mask
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMask.fromLongArray(10, new long[] {1L << 10}));
+    }
+
+    @Test
+    void orAndNot_combineSlots() {
+        mask.setRange(2, 6, true);
+        AvailabilityMask other = new AvailabilityMask(10);
+        other.setRange(4, 9, true);
+
+        AvailabilityMask union = mask.copy();
+        union.or(other);
+        assertEquals("0011111110", union.toBinaryString());
+
+        mask.andNot(other);
+        assertEquals("0011000000", mask.toBinaryString());
+        assertThrows(IllegalArgumentException.class, () -> mask.or(new AvailabilityMask(11)));
+    }
+
+    @Test
+    void isAllSet_rangesAcrossWords() {
+        AvailabilityMask large = new AvailabilityMask(WeekIndex.BINS_PER_WEEK);
+        large.setRange(60, 200, true);
+
+        assertTrue(large.isAllSet(60, 200));
+        assertTrue(large.isAllSet(64, 128));
+        assertTrue(large.isAllSet(5, 5));
+        assertFalse(large.isAllSet(59, 200));
+        assertFalse(large.isAllSet(60, 201));
+        large.set(130, false);
+        assertFalse(large.isAllSet(60, 200));
+        assertThrows(IllegalArgumentException.class, () -> large.isAllSet(0, WeekIndex.BINS_PER_WEEK + 1));
+    }
+
+    @Test
+    void findFirstRun_findsEarliestLongEnoughRun() {
+        mask.setRange(1, 3, true);
+        mask.setRange(4, 8, true);
+
+        assertEquals(1, mask.findFirstRun(2, 0));
+        assertEquals(4, mask.findFirstRun(3, 0));
+        assertEquals(5, mask.findFirstRun(2, 5));
+        assertEquals(-1, mask.findFirstRun(5, 0));
+        assertThrows(IllegalArgumentException.class, () -> mask.findFirstRun(0, 0));
+    }
+
+    @Test
+    void wordOperations_randomMasks_sameAsSlotBySlot() {
+        Random random = new Random(3);
+        int size = WeekIndex.BINS_PER_WEEK;
+        for (int round = 0; round < 200; round++) {
+            boolean[] slots = new boolean[size];
+            AvailabilityMask large = new AvailabilityMask(size);
+            for (int i = 0; i < 10; i++) {
+                int from = random.nextInt(size);
+                int to = from + random.nextInt(size - from + 1);
+                boolean available = random.nextInt(3) > 0;
+                large.setRange(from, to, available);
+                Arrays.fill(slots, from, to, available);
+            }
+
+            int from = random.nextInt(size);
+            int to = from + random.nextInt(size - from + 1);
+            boolean allSet = true;
+            for (int i = from; i < to; i++) {
+                allSet &= slots[i];
+            }
+            assertEquals(allSet, large.isAllSet(from, to));
+
+            int length = 1 + random.nextInt(40);
+            assertEquals(firstRun(slots, length, from), large.findFirstRun(length, from));
+            assertEquals(large, AvailabilityMask.fromBinaryString(large.toBinaryString()));
+        }
+    }
+
+    private static int firstRun(boolean[] slots, int length, int fromIndex) {
+        int runLength = 0;
+        for (int i = fromIndex; i < slots.length; i++) {
+            runLength = slots[i] ? runLength + 1 : 0;
+            if (runLength == length) {
+                return i - length + 1;
+            }
+        }
+        return -1;
+    }
+}
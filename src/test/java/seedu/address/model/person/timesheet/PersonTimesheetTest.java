@@ -85,6 +85,18 @@ public class PersonTimesheetTest {
         assertEquals(timesheet.getWeekStartMonday(), restored.getWeekStartMonday());
     }
 
+    @Test
+    void fromEncodedString_binaryMask_decodedAsBefore() {
+        timesheet.markAvailable(
+                weekIndex.getWeekStartMonday().atTime(13, 0),
+                weekIndex.getWeekStartMonday().atTime(14, 0)
+        );
+        String legacy = timesheet.getWeekStartMonday() + "|" + timesheet.toBinary();
+
+        assertEquals(timesheet.toBinary(), PersonTimesheet.fromEncodedString("person1", legacy).toBinary());
+        assertTrue(timesheet.toEncodedString().length() < legacy.length());
+    }
+
     @Test
     void fromEncodedString_invalidFormat_throwsException() {
         assertThrows(IllegalArgumentException.class, () ->
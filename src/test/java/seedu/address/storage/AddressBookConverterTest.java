@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.model.AddressBook;
+
+public class AddressBookConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        assertFalse(AddressBookConverter.convert(new JsonAddressBookStorage(testFolder.resolve("missing.json")),
+                new BinaryAddressBookStorage(testFolder.resolve("target.bin"))));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        JsonAddressBookStorage json = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binary = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        JsonAddressBookStorage jsonAgain = new JsonAddressBookStorage(testFolder.resolve("again.json"));
+        json.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(AddressBookConverter.convert(json, binary));
+        assertTrue(AddressBookConverter.convert(binary, jsonAgain));
+        assertEquals(getTypicalAddressBook(), new AddressBook(jsonAgain.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertToFormat() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+
+        // missing file -> nothing to convert
+        assertFalse(AddressBookConverter.convertToFormat(filePath, AddressBookFormat.BINARY));
+
+        // json with a journal -> binary, including the journalled changes
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalAddressBookStorage journal = new JournalAddressBookStorage(filePath);
+        journal.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        journal.saveAddressBook(addressBook);
+        assertTrue(AddressBookConverter.convertToFormat(filePath, AddressBookFormat.BINARY));
+        assertEquals(addressBook, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+
+        // already in the right format -> not converted
+        assertFalse(AddressBookConverter.convertToFormat(filePath, AddressBookFormat.BINARY));
+
+        // binary -> json
+        assertTrue(AddressBookConverter.convertToFormat(filePath, AddressBookFormat.JSON));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(AddressBookConverter.convertToFormat(filePath, AddressBookFormat.JOURNAL));
+    }
+
+    @Test
+    public void convertToFormat_journalToJson_keepsJournalledChanges() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalAddressBookStorage journal = new JournalAddressBookStorage(filePath);
+        journal.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        journal.saveAddressBook(addressBook);
+
+        assertTrue(AddressBookConverter.convertToFormat(filePath, AddressBookFormat.JSON));
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // the journal is gone, so there is nothing more to convert
+        assertFalse(AddressBookConverter.convertToFormat(filePath, AddressBookFormat.JSON));
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(storage.readAddressBook(FileUtil.getBackupFilePath(filePath)).get()));
+    }
+
+    @Test
+    public void readAddressBook_sharedFields_sharedInModel() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withAddress("Same street").withTags("friends").build());
+        original.addPerson(new PersonBuilder(BENSON).withAddress("Same street").withTags("friends").build());
+
+        AddressBook readBack = roundTrip(original);
+        assertEquals(original, readBack);
+        Person first = readBack.getPersonList().get(0);
+        Person second = readBack.getPersonList().get(1);
+        assertSame(first.getAddress(), second.getAddress());
+        assertSame(first.getTags().iterator().next(), second.getTags().iterator().next());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsIoException() throws Exception {
+        byte[] bytes = toBytes(getTypicalAddressBook());
+
+        byte[] flipped = bytes.clone();
+        flipped[bytes.length / 2] ^= 1;
+        assertThrows(IOException.class, () -> BinaryAddressBookStorage.readAddressBook(
+                new ByteArrayInputStream(flipped)));
+
+        byte[] truncated = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        assertThrows(IOException.class, () -> BinaryAddressBookStorage.readAddressBook(
+                new ByteArrayInputStream(truncated)));
+
+        byte[] newerVersion = bytes.clone();
+        newerVersion[5] = BinaryAddressBookStorage.FORMAT_VERSION + 1;
+        assertThrows(IOException.class, String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookStorage.FORMAT_VERSION + 1), () -> BinaryAddressBookStorage.readAddressBook(
+                        new ByteArrayInputStream(newerVersion)));
+    }
+
+    @Test
+    public void readAddressBook_withAvailability_success() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withAvailability("MON 0000-0100", "SUN 2300-2400").build());
+        original.addPerson(BENSON);
+        assertEquals(original, roundTrip(original));
+    }
+
+    @Test
+    public void readAddressBook_withRecurrence_success() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withRecurrence("biweekly 2025-12-31").build());
+        original.addPerson(BENSON);
+        assertEquals(original, roundTrip(original));
+    }
+
+    @Test
+    public void readAddressBook_olderVersion_throwsIoException() throws Exception {
+        for (short version = 1; version < BinaryAddressBookStorage.FORMAT_VERSION; version++) {
+            byte[] olderVersion = withChecksum(header(version));
+            assertThrows(IOException.class, String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION,
+                    version), () -> BinaryAddressBookStorage.readAddressBook(new ByteArrayInputStream(olderVersion)));
+        }
+    }
+
+    @Test
+    public void readAddressBook_countLargerThanFile_throwsIoException() throws Exception {
+        // counts of strings, of the bytes in a string, and of persons, each with a valid checksum
+        ByteArrayOutputStream stringCount = header(BinaryAddressBookStorage.FORMAT_VERSION);
+        new DataOutputStream(stringCount).writeInt(Integer.MAX_VALUE);
+        ByteArrayOutputStream stringLength = header(BinaryAddressBookStorage.FORMAT_VERSION);
+        new DataOutputStream(stringLength).writeInt(1);
+        new DataOutputStream(stringLength).writeInt(Integer.MAX_VALUE - 8);
+        ByteArrayOutputStream personCount = header(BinaryAddressBookStorage.FORMAT_VERSION);
+        new DataOutputStream(personCount).writeInt(0);
+        new DataOutputStream(personCount).writeInt(1);
+
+        for (ByteArrayOutputStream content : List.of(stringCount, stringLength, personCount)) {
+            byte[] bytes = withChecksum(content);
+            assertThrows(IOException.class, BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE, () ->
+                    BinaryAddressBookStorage.readAddressBook(new ByteArrayInputStream(bytes)));
+        }
+
+        // reported as a data loading failure, so that the backup is loaded instead
+        Path filePath = testFolder.resolve("corrupted.bin");
+        Files.write(filePath, withChecksum(stringCount));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsIllegalValueException() throws Exception {
+        byte[] bytes = toBytes(() -> FXCollections.observableArrayList(ALICE, ALICE));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                BinaryAddressBookStorage.readAddressBook(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    public void isBinaryFile_emptyFile_returnsFalse() throws Exception {
+        Path filePath = testFolder.resolve("empty.bin");
+        Files.createFile(filePath);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+    }
+
+    private static byte[] toBytes(ReadOnlyAddressBook addressBook) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookStorage.writeAddressBook(addressBook, out);
+        return out.toByteArray();
+    }
+
+    private static ByteArrayOutputStream header(short version) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+        data.writeInt(BinaryAddressBookStorage.MAGIC);
+        data.writeShort(version);
+        return bytes;
+    }
+
+    private static byte[] withChecksum(ByteArrayOutputStream content) throws IOException {
+        CRC32 checksum = new CRC32();
+        checksum.update(content.toByteArray());
+        new DataOutputStream(content).writeLong(checksum.getValue());
+        return content.toByteArray();
+    }
+
+    private static AddressBook roundTrip(AddressBook addressBook) throws Exception {
+        return BinaryAddressBookStorage.readAddressBook(new ByteArrayInputStream(toBytes(addressBook)));
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private JournalAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        storage = new JournalAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+
+        // first save writes a snapshot and an empty journal
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // add, edit and delete are journalled without rewriting the snapshot
+        String snapshot = Files.readString(filePath);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        storage.saveAddressBook(original);
+        original.removePerson(CARL);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(5, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // saving an unchanged book writes nothing
+        storage.saveAddressBook(original);
+        assertEquals(5, Files.readAllLines(journalPath).size());
+
+        // clearing is a single record
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(6, Files.readAllLines(journalPath).size());
+        assertEquals(new AddressBook(),
+                new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_compactsIntoSnapshot() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        for (int i = 0; i <= JournalAddressBookStorage.COMPACTION_THRESHOLD; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+            storage.saveAddressBook(addressBook);
+        }
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_continuesJournalAfterRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath);
+        AddressBook loaded = new AddressBook(reopened.readAddressBook().get());
+        loaded.addPerson(HOON);
+        reopened.saveAddressBook(loaded);
+
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(loaded, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_staleJournal_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // a snapshot written without resetting the journal, as if interrupted during compaction
+        AddressBook compacted = getTypicalAddressBook();
+        compacted.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(compacted);
+
+        assertEquals(compacted, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_skipped() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Files.write(journalPath, "{\"op\":\"add\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.write(journalPath, "{\"op\":\"delete\",\"index\":100,\"count\":1}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void diff_replayedOntoBefore_producesAfter() throws Exception {
+        List<Person> before = new ArrayList<>(getTypicalAddressBook().getPersonList());
+        List<Person> after = new ArrayList<>(before);
+        after.remove(2);
+        after.add(1, HOON);
+        after.set(4, IDA);
+
+        List<Person> replayed = new ArrayList<>(before);
+        for (JsonAdaptedJournalRecord record : JournalAddressBookStorage.diff(before, after, Integer.MAX_VALUE)) {
+            record.applyTo(replayed);
+        }
+        assertEquals(after, replayed);
+    }
+
+    @Test
+    public void diff_tooManyRecords_returnsNull() {
+        List<Person> before = new ArrayList<>(getTypicalAddressBook().getPersonList());
+        assertNull(JournalAddressBookStorage.diff(before, List.of(HOON, IDA), 1));
+        assertTrue(JournalAddressBookStorage.diff(before, before, 0).isEmpty());
+    }
+}
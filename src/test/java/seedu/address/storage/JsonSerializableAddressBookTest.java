@@ -3,14 +3,23 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -40,8 +49,111 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_AT, 1, 0),
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_largeList_sameOrderAsInput() throws Exception {
+        List<JsonAdaptedPerson> persons = createPersons(JsonSerializableAddressBook.PARALLEL_THRESHOLD * 2 + 1);
+        AddressBook addressBook = new JsonSerializableAddressBook(persons).toModelType();
+
+        assertEquals(persons.size(), addressBook.getPersonList().size());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(persons.get(i).toModelType(), addressBook.getPersonList().get(i));
+        }
+    }
+
+    @Test
+    public void toModelType_largeListWithErrors_reportsFirstErrorWithIndex() {
+        int size = JsonSerializableAddressBook.PARALLEL_THRESHOLD * 2;
+        List<JsonAdaptedPerson> persons = createPersons(size);
+        persons.set(size - 1, createPerson("Invalid!"));
+        persons.set(size - 2, persons.get(3));
+        persons.set(size - 3, createPerson("Invalid!"));
+
+        // the first of two invalid persons is reported
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON_AT,
+                size - 3, Name.MESSAGE_CONSTRAINTS), () -> new JsonSerializableAddressBook(persons).toModelType());
+
+        // a duplicate before an invalid person is reported
+        persons.set(size - 3, persons.get(size - 4));
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_AT,
+                size - 3, size - 4), () -> new JsonSerializableAddressBook(persons).toModelType());
+    }
+
+    @Test
+    public void readAddressBook_largeFile_sameAsToModelType() throws Exception {
+        List<JsonAdaptedPerson> persons = createPersons(JsonSerializableAddressBook.PARALLEL_THRESHOLD + 10);
+        JsonSerializableAddressBook serializable = new JsonSerializableAddressBook(persons);
+        InputStream in = new ByteArrayInputStream(
+                JsonUtil.toJsonString(serializable).getBytes(StandardCharsets.UTF_8));
+        assertEquals(serializable.toModelType(), JsonSerializableAddressBook.readAddressBook(in));
+
+        // duplicates across batches are found
+        persons.set(persons.size() - 1, persons.get(0));
+        InputStream duplicateIn = new ByteArrayInputStream(
+                JsonUtil.toJsonString(new JsonSerializableAddressBook(persons)).getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_AT,
+                persons.size() - 1, 0), () -> JsonSerializableAddressBook.readAddressBook(duplicateIn));
+    }
+
+    @Test
+    public void readAddressBook_typicalPersonsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.readAddressBook(in));
+        }
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readAddressBook(in));
+        }
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class,
+                    String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_AT, 1, 0), () ->
+                            JsonSerializableAddressBook.readAddressBook(in));
+        }
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsIOException() throws Exception {
+        String json = toStreamedJson(TypicalPersons.getTypicalAddressBook());
+        InputStream in = new ByteArrayInputStream(
+                json.substring(0, json.length() / 2).getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> JsonSerializableAddressBook.readAddressBook(in));
+    }
+
+    @Test
+    public void writeAddressBook_sameAsSerializedAddressBook() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        assertEquals(expected, toStreamedJson(addressBook));
+    }
+
+    private static String toStreamedJson(AddressBook addressBook) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonSerializableAddressBook.writeAddressBook(addressBook, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static List<JsonAdaptedPerson> createPersons(int count) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(createPerson("Person " + i));
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson createPerson(String name) {
+        return new JsonAdaptedPerson(name, "94351253", "person@example.com", "4th street",
+                "2025-10-12 1600-1800", null, null, List.of(new JsonAdaptedTag("friends")));
+    }
+
 }
@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Recurrence;
+import seedu.address.model.person.TimeSlot;
+
+public class RecurringSlotIndexTest {
+
+    private static final TimeSlot FIRST = new TimeSlot("2025-10-01 1600-1800");
+    private static final Recurrence WEEKLY = new Recurrence("weekly 2025-12-31");
+    private static final Recurrence BIWEEKLY = new Recurrence("biweekly 2025-12-31");
+
+    private final RecurringSlotIndex index = new RecurringSlotIndex();
+
+    @Test
+    public void findConflict_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findConflict(null));
+        assertThrows(NullPointerException.class, () -> index.findConflict(FIRST, null));
+    }
+
+    @Test
+    public void findConflict_oneOffSlot_matchesOccurrences() {
+        index.add(FIRST, BIWEEKLY);
+
+        // on an occurrence, reported as that occurrence
+        assertEquals(Optional.of(new TimeSlot("2025-10-15 1600-1800")),
+                index.findConflict(new TimeSlot("2025-10-15 1700-1900")));
+        // touching also conflicts
+        assertEquals(Optional.of(new TimeSlot("2025-10-15 1600-1800")),
+                index.findConflict(new TimeSlot("2025-10-15 1800-1900")));
+        // off week, before the first occurrence, after the until-date, or at another time
+        assertEquals(Optional.empty(), index.findConflict(new TimeSlot("2025-10-08 1700-1900")));
+        assertEquals(Optional.empty(), index.findConflict(new TimeSlot("2025-09-17 1700-1900")));
+        assertEquals(Optional.empty(), index.findConflict(new TimeSlot("2026-01-07 1700-1900")));
+        assertEquals(Optional.empty(), index.findConflict(new TimeSlot("2025-10-15 1000-1200")));
+    }
+
+    @Test
+    public void findConflict_recurringSlots_onlySharedDatesConflict() {
+        index.add(FIRST, BIWEEKLY);
+
+        // a biweekly slot in the other weeks never meets it
+        assertEquals(Optional.empty(), index.findConflict(new TimeSlot("2025-10-08 1700-1900"), BIWEEKLY));
+        // a weekly slot starting in the other weeks meets it a week later
+        assertEquals(Optional.of(new TimeSlot("2025-10-15 1600-1800")),
+                index.findConflict(new TimeSlot("2025-10-08 1700-1900"), WEEKLY));
+        // but not if it ends before then
+        assertEquals(Optional.empty(),
+                index.findConflict(new TimeSlot("2025-10-08 1700-1900"), new Recurrence("weekly 2025-10-14")));
+        // or if it starts after the last occurrence
+        assertEquals(Optional.empty(), index.findConflict(new TimeSlot("2026-01-07 1700-1900"), WEEKLY));
+    }
+
+    @Test
+    public void remove_rule_noLongerConflicts() {
+        index.add(FIRST, WEEKLY);
+        index.add(FIRST, BIWEEKLY);
+
+        // only a rule with the same first slot and recurrence
+        assertFalse(index.remove(FIRST, new Recurrence("weekly 2025-11-30")));
+        assertFalse(index.remove(new TimeSlot("2025-10-08 1600-1800"), WEEKLY));
+
+        assertTrue(index.remove(FIRST, WEEKLY));
+        assertEquals(1, index.size());
+        assertEquals(Optional.empty(), index.findConflict(new TimeSlot("2025-10-08 1700-1900")));
+        assertEquals(Optional.of(new TimeSlot("2025-10-15 1600-1800")),
+                index.findConflict(new TimeSlot("2025-10-15 1700-1900")));
+    }
+
+    @Test
+    public void clear_removesAllRules() {
+        index.add(FIRST, WEEKLY);
+        assertEquals(1, index.size());
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(Optional.empty(), index.findConflict(FIRST));
+    }
+
+    @Test
+    public void findConflict_randomRules_sameAsOccurrences() {
+        Random random = new Random(7);
+        List<TimeSlot> firsts = new ArrayList<>();
+        List<Recurrence> recurrences = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            firsts.add(randomSlot(random));
+            recurrences.add(randomRecurrence(random, firsts.get(i).getDate()));
+            index.add(firsts.get(i), recurrences.get(i));
+        }
+
+        for (int i = 0; i < 300; i++) {
+            TimeSlot slot = randomSlot(random);
+            Recurrence recurrence = random.nextBoolean() ? Recurrence.NONE : randomRecurrence(random, slot.getDate());
+            List<TimeSlot> occurrences = recurrence.occurrences(slot).collect(Collectors.toList());
+            boolean isConflicting = false;
+            for (int j = 0; j < firsts.size(); j++) {
+                for (TimeSlot existing : recurrences.get(j).occurrences(firsts.get(j)).collect(Collectors.toList())) {
+                    isConflicting |= occurrences.stream().anyMatch(existing::overlaps);
+                }
+            }
+
+            Optional<TimeSlot> conflict = index.findConflict(slot, recurrence);
+            assertEquals(isConflicting, conflict.isPresent(), slot + " " + recurrence);
+            conflict.ifPresent(existing ->
+                    assertTrue(occurrences.stream().anyMatch(existing::overlaps), slot + " " + recurrence));
+        }
+    }
+
+    private static TimeSlot randomSlot(Random random) {
+        LocalTime start = LocalTime.of(8 + random.nextInt(12), random.nextInt(2) * 30);
+        return new TimeSlot(LocalDate.of(2025, 10, 1).plusDays(random.nextInt(60)), start,
+                start.plusMinutes(30 + random.nextInt(4) * 30));
+    }
+
+    private static Recurrence randomRecurrence(Random random, LocalDate first) {
+        return new Recurrence(1 + random.nextInt(2), first.plusDays(random.nextInt(70)));
+    }
+}
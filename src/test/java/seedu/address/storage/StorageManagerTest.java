@@ -1,10 +1,13 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +17,9 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Recurrence;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.testutil.PersonBuilder;
 
 public class StorageManagerTest {
 
@@ -60,6 +66,48 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addSlot_conflictingSlot_rejectedAndReported() {
+        TimeSlot existing = new TimeSlot("2025-10-12 1600-1800");
+        assertTrue(storageManager.addSlot(existing));
+
+        TimeSlot conflicting = new TimeSlot("2025-10-12 1700-1900");
+        assertFalse(storageManager.addSlot(conflicting));
+        assertEquals(Optional.of(existing), storageManager.findConflict(conflicting));
+        assertEquals(Optional.empty(), storageManager.findConflict(new TimeSlot("2025-10-13 1700-1900")));
+    }
+
+    @Test
+    public void addSlot_recurringSlot_conflictsWithOccurrences() {
+        Recurrence weekly = new Recurrence("weekly 2025-12-31");
+        assertTrue(storageManager.addSlot(new TimeSlot("2025-10-01 1600-1800"), weekly));
+
+        // a one-off slot on a later occurrence
+        TimeSlot onOccurrence = new TimeSlot("2025-11-05 1700-1900");
+        assertFalse(storageManager.addSlot(onOccurrence));
+        assertEquals(Optional.of(new TimeSlot("2025-11-05 1600-1800")), storageManager.findConflict(onOccurrence));
+        assertTrue(storageManager.addSlot(new TimeSlot("2026-01-07 1700-1900")));
+
+        // a recurring slot that meets an existing one-off slot on one of its occurrences
+        TimeSlot oneOff = new TimeSlot("2025-10-16 0900-1000");
+        assertTrue(storageManager.addSlot(oneOff));
+        Recurrence biweekly = new Recurrence("biweekly 2025-10-31");
+        assertEquals(Optional.of(oneOff), storageManager.findConflict(new TimeSlot("2025-10-02 0930-1030"), biweekly));
+        assertEquals(Optional.empty(), storageManager.findConflict(new TimeSlot("2025-10-09 0930-1030"), biweekly));
+    }
+
+    @Test
+    public void loadExistingSlots_recurringPerson_indexedByRule() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withTimeSlot("2025-10-01 1600-1800")
+                .withRecurrence("biweekly 2025-12-31").build());
+        storageManager.loadExistingSlots(addressBook);
+
+        assertEquals(Optional.of(new TimeSlot("2025-12-24 1600-1800")),
+                storageManager.findConflict(new TimeSlot("2025-12-24 1500-1600")));
+        assertEquals(Optional.empty(), storageManager.findConflict(new TimeSlot("2025-12-17 1500-1600")));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
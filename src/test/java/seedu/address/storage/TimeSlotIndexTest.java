@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.TimeSlot;
+
+public class TimeSlotIndexTest {
+
+    private final TimeSlotIndex index = new TimeSlotIndex();
+
+    @Test
+    public void findConflict_nullSlot_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findConflict(null));
+    }
+
+    @Test
+    public void findConflict_emptyIndex_returnsEmpty() {
+        assertEquals(Optional.empty(), index.findConflict(new TimeSlot("2025-10-12 1600-1800")));
+    }
+
+    @Test
+    public void findConflict_overlappingSlot_returnsConflictingSlot() {
+        TimeSlot existing = new TimeSlot("2025-10-12 1600-1800");
+        index.add(new TimeSlot("2025-10-12 0900-1000"));
+        index.add(existing);
+
+        assertEquals(Optional.of(existing), index.findConflict(new TimeSlot("2025-10-12 1700-1900")));
+        // touching end points also conflict
+        assertEquals(Optional.of(existing), index.findConflict(new TimeSlot("2025-10-12 1800-1900")));
+    }
+
+    @Test
+    public void findConflict_differentDateOrDisjointTime_returnsEmpty() {
+        index.add(new TimeSlot("2025-10-12 1600-1800"));
+
+        assertFalse(index.hasConflict(new TimeSlot("2025-10-13 1600-1800")));
+        assertFalse(index.hasConflict(new TimeSlot("2025-10-12 1200-1300")));
+    }
+
+    @Test
+    public void findConflict_nestedSlots_findsEnclosingSlot() {
+        TimeSlot enclosing = new TimeSlot("2025-10-12 0800-2000");
+        index.add(enclosing);
+        index.add(new TimeSlot("2025-10-12 0900-0930"));
+        index.add(new TimeSlot("2025-10-12 0700-0730"));
+
+        assertEquals(Optional.of(enclosing), index.findConflict(new TimeSlot("2025-10-12 1000-1100")));
+    }
+
+    @Test
+    public void add_duplicateSlot_notCountedTwice() {
+        assertTrue(index.add(new TimeSlot("2025-10-12 1600-1800")));
+        assertFalse(index.add(new TimeSlot("2025-10-12 1600-1800")));
+        assertEquals(1, index.size());
+
+        index.clear();
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void remove_duplicateSlot_keptUntilRemovedAsOftenAsAdded() {
+        TimeSlot slot = new TimeSlot("2025-10-12 1600-1800");
+        index.add(slot);
+        index.add(slot);
+
+        assertTrue(index.remove(slot));
+        assertTrue(index.hasConflict(slot));
+        assertEquals(1, index.size());
+
+        assertTrue(index.remove(slot));
+        assertFalse(index.hasConflict(slot));
+        assertEquals(0, index.size());
+
+        assertFalse(index.remove(slot));
+    }
+
+    @Test
+    public void remove_manySlots_matchesLinearScan() {
+        Random random = new Random(2103);
+        List<TimeSlot> added = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            TimeSlot slot = randomSlot(random);
+            index.add(slot);
+            added.add(slot);
+        }
+        for (int i = 0; i < 300; i++) {
+            assertTrue(index.remove(added.remove(random.nextInt(added.size()))));
+        }
+
+        assertEquals(added.stream().distinct().count(), index.size());
+        for (int i = 0; i < 500; i++) {
+            TimeSlot query = randomSlot(random);
+            assertEquals(added.stream().anyMatch(query::overlaps), index.hasConflict(query));
+        }
+    }
+
+    @Test
+    public void findConflict_manySlots_matchesLinearScan() {
+        Random random = new Random(2103);
+        List<TimeSlot> added = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            TimeSlot slot = randomSlot(random);
+            index.add(slot);
+            added.add(slot);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            TimeSlot query = randomSlot(random);
+            boolean expected = added.stream().anyMatch(query::overlaps);
+            Optional<TimeSlot> conflict = index.findConflict(query);
+            assertEquals(expected, conflict.isPresent());
+            conflict.ifPresent(slot -> assertTrue(slot.overlaps(query)));
+        }
+    }
+
+    private static TimeSlot randomSlot(Random random) {
+        int day = 10 + random.nextInt(3);
+        int start = random.nextInt(40) * 30;
+        int end = start + 30 + random.nextInt(8) * 30;
+        return new TimeSlot(String.format("2025-10-%02d %02d%02d-%02d%02d",
+                day, start / 60, start % 60, end / 60, end % 60));
+    }
+}
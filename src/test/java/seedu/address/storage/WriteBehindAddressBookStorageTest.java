@@ -0,0 +1,180 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenRead_returnsSavedData() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        // later changes to the model are not part of the save
+        original.addPerson(HOON);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        storage.saveAddressBook(original);
+        storage.flush();
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_whileWriting_coalescesIntoOneWrite() throws Exception {
+        BlockingAddressBookStorageStub stub = new BlockingAddressBookStorageStub(testFolder.resolve("ab.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(stub);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        stub.writeStarted.await();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        stub.releaseWrites.countDown();
+        storage.flush();
+
+        assertEquals(2, stub.saved.size());
+        assertEquals(addressBook, new AddressBook(stub.saved.get(1)));
+    }
+
+    @Test
+    public void flush_writeFailed_retriesUntilWritten() throws Exception {
+        FailingAddressBookStorageStub stub = new FailingAddressBookStorageStub(testFolder.resolve("ab.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(stub);
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        storage.setWriteFailureHandler(failures::add);
+
+        // the save itself returns before the write fails, which is reported straight away
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, FailingAddressBookStorageStub.MESSAGE, storage::flush);
+        int failureCount = failures.size();
+        assertTrue(failureCount > 0);
+
+        // the failed snapshot is written again by the next flush
+        assertThrows(IOException.class, FailingAddressBookStorageStub.MESSAGE, storage::flush);
+        assertTrue(failures.size() > failureCount);
+        stub.isFailing = false;
+        storage.flush();
+        assertEquals(List.of(getTypicalAddressBook()), stub.getWritten());
+
+        // nothing is left to write
+        failureCount = failures.size();
+        storage.flush();
+        assertEquals(1, stub.getWritten().size());
+        assertEquals(failureCount, failures.size());
+    }
+
+    @Test
+    public void saveAddressBook_afterFailedWrite_replacesFailedSnapshot() throws Exception {
+        FailingAddressBookStorageStub stub = new FailingAddressBookStorageStub(testFolder.resolve("ab.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(stub);
+        storage.saveAddressBook(new AddressBook());
+        assertThrows(IOException.class, FailingAddressBookStorageStub.MESSAGE, storage::flush);
+
+        stub.isFailing = false;
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flush();
+        assertEquals(List.of(getTypicalAddressBook()), stub.getWritten());
+    }
+
+    @Test
+    public void saveAddressBook_earlierWriteFailed_throwsAndStillSaves() throws Exception {
+        Path failingPath = testFolder.resolve("ab.json");
+        Path workingPath = testFolder.resolve("other.json");
+        FailingAddressBookStorageStub stub = new FailingAddressBookStorageStub(failingPath);
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(stub);
+        CountDownLatch writeFailed = new CountDownLatch(1);
+        storage.setWriteFailureHandler(failure -> writeFailed.countDown());
+
+        storage.saveAddressBook(new AddressBook(), failingPath);
+        writeFailed.await();
+
+        assertThrows(IOException.class, FailingAddressBookStorageStub.MESSAGE, () ->
+                storage.saveAddressBook(getTypicalAddressBook(), workingPath));
+        stub.workingWriteDone.await();
+        assertEquals(List.of(getTypicalAddressBook()), stub.getWritten());
+        // the failed save is tried again, and still fails
+        assertThrows(IOException.class, FailingAddressBookStorageStub.MESSAGE, storage::flush);
+    }
+
+    /**
+     * A stub that records saved address books, waiting for {@code releaseWrites} during the first save.
+     */
+    private static class BlockingAddressBookStorageStub extends JsonAddressBookStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseWrites = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+
+        BlockingAddressBookStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                releaseWrites.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            saved.add(addressBook);
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+
+    /**
+     * A stub that records saved address books, and fails every save to its own file path while {@code isFailing}.
+     */
+    private static class FailingAddressBookStorageStub extends JsonAddressBookStorage {
+        private static final String MESSAGE = "dummy exception";
+        private final CountDownLatch workingWriteDone = new CountDownLatch(1);
+        private final List<AddressBook> written = new CopyOnWriteArrayList<>();
+        private volatile boolean isFailing = true;
+
+        FailingAddressBookStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (isFailing && filePath.equals(getAddressBookFilePath())) {
+                throw new IOException(MESSAGE);
+            }
+            written.add(new AddressBook(addressBook));
+            workingWriteDone.countDown();
+        }
+
+        List<AddressBook> getWritten() {
+            return written;
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package seedu.address.testutil;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.Availability;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.Recurrence;
+import seedu.address.model.person.TimeSlot;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -81,6 +85,31 @@ public class EditPersonDescriptorBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code TimeSlot} of the {@code EditPersonDescriptor} that we are building.
+     */
+    public EditPersonDescriptorBuilder withTimeSlot(String timeSlot) {
+        descriptor.setTimeSlot(new TimeSlot(timeSlot));
+        return this;
+    }
+
+    /**
+     * Sets the {@code Recurrence} of the {@code EditPersonDescriptor} that we are building.
+     */
+    public EditPersonDescriptorBuilder withRecurrence(String recurrence) {
+        descriptor.setRecurrence(new Recurrence(recurrence));
+        return this;
+    }
+
+    /**
+     * Parses the {@code ranges} into an {@code Availability} and set it to the {@code EditPersonDescriptor}
+     * that we are building.
+     */
+    public EditPersonDescriptorBuilder withAvailability(String... ranges) {
+        descriptor.setAvailability(Availability.fromRanges(List.of(ranges)));
+        return this;
+    }
+
     public EditPersonDescriptor build() {
         return descriptor;
     }
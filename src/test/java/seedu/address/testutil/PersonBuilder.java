@@ -1,13 +1,16 @@
 package seedu.address.testutil;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.model.person.Address;
+import seedu.address.model.person.Availability;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.person.TimeSlot;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.util.SampleDataUtil;
@@ -28,6 +31,8 @@ public class PersonBuilder {
     private Email email;
     private Address address;
     private TimeSlot timeSlot;
+    private Recurrence recurrence;
+    private Availability availability;
     private Set<Tag> tags;
 
     /**
@@ -39,6 +44,8 @@ public class PersonBuilder {
         email = new Email(DEFAULT_EMAIL);
         address = new Address(DEFAULT_ADDRESS);
         timeSlot = new TimeSlot(DEFAULT_TIMESLOT);
+        recurrence = Recurrence.NONE;
+        availability = Availability.NONE;
         tags = new HashSet<>();
     }
 
@@ -51,6 +58,8 @@ public class PersonBuilder {
         email = personToCopy.getEmail();
         address = personToCopy.getAddress();
         timeSlot = personToCopy.getTimeSlot();
+        recurrence = personToCopy.getRecurrence();
+        availability = personToCopy.getAvailability();
         tags = new HashSet<>(personToCopy.getTags());
     }
 
@@ -94,6 +103,22 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Recurrence} of the {@code Person} that we are building.
+     */
+    public PersonBuilder withRecurrence(String recurrence) {
+        this.recurrence = new Recurrence(recurrence);
+        return this;
+    }
+
+    /**
+     * Parses the {@code ranges} into an {@code Availability} and set it to the {@code Person} that we are building.
+     */
+    public PersonBuilder withAvailability(String... ranges) {
+        this.availability = Availability.fromRanges(List.of(ranges));
+        return this;
+    }
+
     /**
      * Sets the {@code Email} of the {@code Person} that we are building.
      */
@@ -103,7 +128,7 @@ public class PersonBuilder {
     }
 
     public Person build() {
-        return new Person(name, phone, email, address, timeSlot, tags);
+        return new Person(name, phone, email, address, timeSlot, recurrence, availability, tags);
     }
 
 }
@@ -1,12 +1,15 @@
 package seedu.address.testutil;
 
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AVAILABILITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT;
 
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.logic.commands.AddCommand;
@@ -36,6 +39,12 @@ public class PersonUtil {
         sb.append(PREFIX_EMAIL + person.getEmail().value + " ");
         sb.append(PREFIX_ADDRESS + person.getAddress().value + " ");
         sb.append(PREFIX_TIMESLOT + person.getTimeSlot().value + " ");
+        if (person.getRecurrence().isRecurring()) {
+            sb.append(PREFIX_RECURRENCE + person.getRecurrence().toString() + " ");
+        }
+        person.getAvailability().toRanges().forEach(
+            range -> sb.append(PREFIX_AVAILABILITY + range + " ")
+        );
         person.getTags().stream().forEach(
             s -> sb.append(PREFIX_TAG + s.tagName + " ")
         );
@@ -51,6 +60,16 @@ public class PersonUtil {
         descriptor.getPhone().ifPresent(phone -> sb.append(PREFIX_PHONE).append(phone.value).append(" "));
         descriptor.getEmail().ifPresent(email -> sb.append(PREFIX_EMAIL).append(email.value).append(" "));
         descriptor.getAddress().ifPresent(address -> sb.append(PREFIX_ADDRESS).append(address.value).append(" "));
+        descriptor.getRecurrence().ifPresent(recurrence -> sb.append(PREFIX_RECURRENCE)
+                .append(recurrence.isRecurring() ? recurrence.toString() : "").append(" "));
+        if (descriptor.getAvailability().isPresent()) {
+            List<String> ranges = descriptor.getAvailability().get().toRanges();
+            if (ranges.isEmpty()) {
+                sb.append(PREFIX_AVAILABILITY).append(" ");
+            } else {
+                ranges.forEach(range -> sb.append(PREFIX_AVAILABILITY).append(range).append(" "));
+            }
+        }
         if (descriptor.getTags().isPresent()) {
             Set<Tag> tags = descriptor.getTags().get();
             if (tags.isEmpty()) {